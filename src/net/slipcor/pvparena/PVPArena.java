@@ -20,8 +20,12 @@ import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegionShapeManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.ConfigSaveManager;
+import net.slipcor.pvparena.managers.DumpManager;
+import net.slipcor.pvparena.managers.PermissionManager;
 import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.TabManager;
+import net.slipcor.pvparena.managers.TickManager;
 import net.slipcor.pvparena.updater.UpdateChecker;
 import org.bstats.bukkit.Metrics;
 import org.bukkit.Bukkit;
@@ -35,7 +39,9 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <pre>
@@ -60,6 +66,14 @@ public class PVPArena extends JavaPlugin {
     private final List<AbstractArenaCommand> arenaCommands = new ArrayList<>();
     private final List<AbstractGlobalCommand> globalCommands = new ArrayList<>();
 
+    // the commands changing what tab completion offers
+    private static final Set<Class<?>> EDIT_COMMANDS = new HashSet<>(Arrays.asList(
+            PAA_ArenaClassChest.class, PAA_Class.class, PAA_Goal.class, PAA_Protection.class, PAA_Region.class,
+            PAA_RegionClear.class, PAA_RegionFlag.class, PAA_RegionType.class, PAA_Set.class, PAA_Spawn.class,
+            PAA_Teams.class, PAA_ToggleMod.class));
+    private static final Set<Class<?>> GLOBAL_EDIT_COMMANDS = new HashSet<>(Arrays.asList(
+            PAA_Modules.class, PAA_ReloadAll.class));
+
     private UpdateChecker updateChecker;
     private boolean shuttingDown;
 
@@ -157,6 +171,7 @@ public class PVPArena extends JavaPlugin {
         globalCommands.add(new PAA_Duty());
         globalCommands.add(new PAA_Modules());
         globalCommands.add(new PAA_ReloadAll());
+        globalCommands.add(new PAA_Timings());
         globalCommands.add(new PAI_ArenaList());
         globalCommands.add(new PAI_GlobalStats());
         globalCommands.add(new PAI_Help());
@@ -196,17 +211,14 @@ public class PVPArena extends JavaPlugin {
 
         }
 
-        AbstractGlobalCommand pacmd = null;
-        for (final AbstractGlobalCommand agc : globalCommands) {
-            if (agc.getMain().contains(args[0].toLowerCase()) || agc.getShort().contains(args[0].toLowerCase())) {
-                pacmd = agc;
-                break;
-            }
-        }
+        final AbstractGlobalCommand pacmd = CommandIndex.of(globalCommands).get(args[0]);
         final ArenaPlayer player = ArenaPlayer.parsePlayer(sender.getName());
         if (pacmd != null && !(player.getArena() != null && pacmd.hasVersionForArena())) {
             debugger.i("committing: " + pacmd.getName(), sender);
             pacmd.commit(sender, StringParser.shiftArrayBy(args, 1));
+            if (GLOBAL_EDIT_COMMANDS.contains(pacmd.getClass())) {
+                TabManager.invalidateAll();
+            }
             return true;
         }
 
@@ -258,19 +270,18 @@ public class PVPArena extends JavaPlugin {
             return true;
         }
 
-        AbstractArenaCommand paacmd = null;
-        for (final AbstractArenaCommand aac : arenaCommands) {
-            if (aac.getMain().contains(newArgs[0].toLowerCase()) || aac.getShort().contains(newArgs[0].toLowerCase())) {
-                paacmd = aac;
-                break;
-            }
-
-            if (aac.getShort().contains("-l") && "l".equalsIgnoreCase(args[0])) {
-                paacmd = aac;
-                break;
+        final CommandIndex<AbstractArenaCommand> arenaIndex = CommandIndex.of(arenaCommands);
+        AbstractArenaCommand paacmd = arenaIndex.get(newArgs[0]);
+        if ("l".equalsIgnoreCase(args[0])) {
+            final AbstractArenaCommand shortL = arenaIndex.getShort("-l");
+            if (shortL != null && (paacmd == null || arenaCommands.indexOf(shortL) < arenaCommands.indexOf(paacmd))) {
+                paacmd = shortL;
             }
         }
         if (paacmd == null && PACheck.handleCommand(tempArena, sender, newArgs)) {
+            if (PermissionManager.hasAdminPerm(sender) || PermissionManager.hasBuilderPerm(sender, tempArena)) {
+                TabManager.invalidate(tempArena); // a goal or module may have been set up
+            }
             return true;
         }
 
@@ -286,6 +297,9 @@ public class PVPArena extends JavaPlugin {
                     .i("committing: " + paacmd.getName(), sender);
             paacmd.commit(tempArena, sender,
                     StringParser.shiftArrayBy(newArgs, 1));
+            if (EDIT_COMMANDS.contains(paacmd.getClass())) {
+                TabManager.invalidate(tempArena);
+            }
             return true;
         }
         tempArena.getDebugger().i("cmd null", sender);
@@ -302,6 +316,10 @@ public class PVPArena extends JavaPlugin {
     public void onDisable() {
         shuttingDown = true;
         ArenaManager.reset(true);
+        TickManager.stop();
+        ConfigSaveManager.shutdown();
+        DumpManager.shutdown();
+        StatisticsManager.shutdown();
         Debug.destroy();
         this.getUpdateChecker().runOnDisable();
         Language.logInfo(MSG.LOG_PLUGIN_DISABLED, getDescription().getFullName());
@@ -390,6 +408,7 @@ public class PVPArena extends JavaPlugin {
         }
 
         Debug.load(this, Bukkit.getConsoleSender());
+        TickManager.start();
         ArenaClass.addGlobalClasses();
         ArenaManager.load_arenas();
 
@@ -0,0 +1,71 @@
+package net.slipcor.pvparena.api;
+
+import net.slipcor.pvparena.classes.PAStatRecord;
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface IStatisticsBackend {
+    /**
+     * Get the backend name, as used in the main config
+     *
+     * @return the backend name
+     */
+    String getName();
+
+    /**
+     * Open the storage, creating it if needed
+     *
+     * @throws Exception if the storage could not be opened
+     */
+    void open() throws Exception;
+
+    /**
+     * Close the storage, called after the last write
+     */
+    void close();
+
+    /**
+     * Is there nothing stored yet?
+     *
+     * @return true if the storage is empty
+     */
+    boolean isEmpty() throws Exception;
+
+    /**
+     * Read all stats of an arena
+     *
+     * @param arenaName the arena name
+     * @return the stored records
+     */
+    List<PAStatRecord> load(final String arenaName) throws Exception;
+
+    /**
+     * Read the stats of a player in all arenas
+     *
+     * @param id   the player node, the UUID if known
+     * @param name the player name, to also find legacy name nodes
+     * @return the stored records
+     */
+    List<PAStatRecord> loadPlayer(final String id, final String name) throws Exception;
+
+    /**
+     * Write a batch of records, replacing the stored values. Called by the background writer,
+     * never at the same time as another write.
+     *
+     * @param records the records to write
+     */
+    void write(final Collection<PAStatRecord> records) throws Exception;
+
+    /**
+     * Get the best players of a stat. May be called while a write is running.
+     *
+     * @param arenaName the arena name, null to sum up the stats of all arenas
+     * @param type      the stat type
+     * @param limit     the maximum amount of players
+     * @return the records by player node, best first, only holding the value of the given type
+     */
+    Map<String, PAStatRecord> getTop(final String arenaName, final Type type, final int limit) throws Exception;
+}
@@ -8,11 +8,15 @@ import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.events.*;
 import net.slipcor.pvparena.loadables.ArenaGoal;
+import net.slipcor.pvparena.loadables.ArenaGoalManager.GoalHook;
 import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
+import net.slipcor.pvparena.loadables.ArenaModuleManager.ModuleHook;
 import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.*;
+import net.slipcor.pvparena.runnables.ArenaRunnable;
+import net.slipcor.pvparena.runnables.SpawnCampRunnable;
 import net.slipcor.pvparena.runnables.StartRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -44,7 +48,7 @@ import org.bukkit.util.Vector;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -66,13 +70,21 @@ public class Arena {
     private final Set<ArenaClass> classes = new HashSet<>();
     private final Set<ArenaGoal> goals = new HashSet<>();
     private final Set<ArenaModule> mods = new HashSet<>();
+    private PAHookTable<ArenaGoal> goalHooks;
+    private PAHookTable<ArenaModule> modHooks;
     private final Set<ArenaRegion> regions = new HashSet<>();
     private final Set<PAClassSign> signs = new HashSet<>();
     private final Set<ArenaTeam> teams = new HashSet<>();
     private final Set<String> playedPlayers = new HashSet<>();
 
+    private final Set<ArenaPlayer> everyone = ConcurrentHashMap.newKeySet();
+    private final Map<Status, Set<ArenaPlayer>> playersByStatus = new EnumMap<>(Status.class);
+    private final Map<ArenaTeam, Integer> fighterTeams = new HashMap<>();
+    private Set<ArenaPlayer> fighters = Collections.emptySet();
+
     private final Set<PABlock> blocks = new HashSet<>();
     private final Set<PASpawn> spawns = new HashSet<>();
+    private final PASpawnDistances spawnDistances = new PASpawnDistances();
 
     private final Map<Player, UUID> entities = new HashMap<>();
 
@@ -91,34 +103,49 @@ public class Arena {
     private int round;
 
     // Runnable IDs
-    public BukkitRunnable endRunner;
-    public BukkitRunnable pvpRunner;
-    public BukkitRunnable realEndRunner;
-    public BukkitRunnable startRunner;
-    public int spawnCampRunnerID = -1;
+    public ArenaRunnable endRunner;
+    public ArenaRunnable pvpRunner;
+    public ArenaRunnable realEndRunner;
+    public ArenaRunnable startRunner;
+    public SpawnCampRunnable spawnCampRunner;
 
     private boolean gaveRewards;
 
     private Config cfg;
     private YamlConfiguration language = new YamlConfiguration();
+    private Map<MSG, MessageTemplate> messageOverrides = Collections.emptyMap();
     private long startTime;
     private Scoreboard scoreboard = null;
 
     public Arena(final String name) {
+        this(name, null);
+    }
+
+    /**
+     * create an arena from a configuration that has already been loaded
+     *
+     * @param name   the arena name
+     * @param config the loaded configuration, null to load it
+     */
+    public Arena(final String name, final Config config) {
         this.name = name;
 
         getDebugger().i("loading Arena " + name);
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/arenas/" + name + ".yml");
-        if (!file.exists()) {
-            try {
-                file.createNewFile();
-            } catch (final IOException e) {
-                e.printStackTrace();
+        if (config == null) {
+            final File file = new File(PVPArena.instance.getDataFolder().getPath()
+                    + "/arenas/" + name + ".yml");
+            if (!file.exists()) {
+                try {
+                    file.createNewFile();
+                } catch (final IOException e) {
+                    e.printStackTrace();
+                }
             }
+            cfg = new Config(file);
+        } else {
+            cfg = config;
         }
-        cfg = new Config(file);
-        valid = ConfigurationManager.configParse(this, cfg);
+        valid = ConfigurationManager.configParse(this, cfg, config != null);
         if (valid) {
             StatisticsManager.loadStatistics(this);
             SpawnManager.loadSpawns(this, cfg);
@@ -135,6 +162,7 @@ public class Arena {
             } catch (final InvalidConfigurationException | IOException e) {
                 e.printStackTrace();
             }
+            messageOverrides = Language.compileOverrides(language);
         }
     }
 
@@ -220,6 +248,7 @@ public class Arena {
 
     public void addRegion(final ArenaRegion region) {
         regions.add(region);
+        ArenaManager.updateRegionIndex(region);
         getDebugger().i("loading region: " + region.getRegionName());
         if (region.getType() == RegionType.JOIN) {
             if (cfg.getBoolean(CFG.JOIN_FORCE)) {
@@ -416,24 +445,76 @@ public class Arena {
      * hand over everyone being part of the arena
      */
     public Set<ArenaPlayer> getEveryone() {
-        return ArenaPlayer.getAllArenaPlayers().stream()
-                .filter(ap -> this.equals(ap.getArena()))
-                .collect(Collectors.toSet());
+        return Collections.unmodifiableSet(everyone);
     }
 
     /**
-     * hand over all players being member of a team
+     * hand over all players of this arena having a given status
+     *
+     * @param status the status to look for
+     * @return a read-only set of arena players
      */
-    public Set<ArenaPlayer> getFighters() {
+    public Set<ArenaPlayer> getEveryone(final Status status) {
+        return Collections.unmodifiableSet(getStatusSet(status));
+    }
 
-        final Set<ArenaPlayer> players = new HashSet<>();
+    /**
+     * hand over all players being member of a team. The set is rebuilt only when a team changed,
+     * and never modified afterwards, so it is safe to iterate while players leave.
+     */
+    public Set<ArenaPlayer> getFighters() {
+        synchronized (fighterTeams) {
+            boolean valid = fighterTeams.size() == teams.size();
+            if (valid) {
+                for (final ArenaTeam team : teams) {
+                    final Integer version = fighterTeams.get(team);
+                    if (version == null || version != team.getVersion()) {
+                        valid = false;
+                        break;
+                    }
+                }
+            }
+            if (!valid) {
+                final Set<ArenaPlayer> players = new HashSet<>();
+                fighterTeams.clear();
+                for (final ArenaTeam team : teams) {
+                    players.addAll(team.getTeamMembers());
+                    fighterTeams.put(team, team.getVersion());
+                }
+                fighters = Collections.unmodifiableSet(players);
+            }
+            return fighters;
+        }
+    }
 
-        for (final ArenaTeam team : teams) {
-            for (final ArenaPlayer ap : team.getTeamMembers()) {
-                players.add(ap);
+    private Set<ArenaPlayer> getStatusSet(final Status status) {
+        synchronized (playersByStatus) {
+            Set<ArenaPlayer> players = playersByStatus.get(status);
+            if (players == null) {
+                players = ConcurrentHashMap.newKeySet();
+                playersByStatus.put(status, players);
             }
+            return players;
+        }
+    }
+
+    /**
+     * update the member indexes, called when a player's arena or status changes
+     *
+     * @param aPlayer   the player to update
+     * @param oldStatus the status to remove, null if the player was no member
+     * @param newStatus the status to add, null if the player is no member anymore
+     */
+    void updateMember(final ArenaPlayer aPlayer, final Status oldStatus, final Status newStatus) {
+        if (oldStatus != null) {
+            getStatusSet(oldStatus).remove(aPlayer);
+        }
+        if (newStatus == null) {
+            everyone.remove(aPlayer);
+        } else {
+            everyone.add(aPlayer);
+            getStatusSet(newStatus).add(aPlayer);
         }
-        return players;
     }
 
     public Set<ArenaGoal> getGoals() {
@@ -444,6 +525,27 @@ public class Arena {
         return mods;
     }
 
+    /**
+     * @return the current goals by the hooks they implement, rebuilt when the goals or the round change
+     */
+    public PAHookTable<ArenaGoal> getGoalHooks() {
+        final Set<ArenaGoal> current = getGoals();
+        if (goalHooks == null || !goalHooks.isBuiltFrom(current)) {
+            goalHooks = new PAHookTable<>(current, ArenaGoal.class, GoalHook.values());
+        }
+        return goalHooks;
+    }
+
+    /**
+     * @return the modules by the hooks they implement, rebuilt when modules are added or removed
+     */
+    public PAHookTable<ArenaModule> getModHooks() {
+        if (modHooks == null) {
+            modHooks = new PAHookTable<>(mods, ArenaModule.class, ModuleHook.values());
+        }
+        return modHooks;
+    }
+
     public String getName() {
         return name;
     }
@@ -508,6 +610,11 @@ public class Arena {
         return regions;
     }
 
+    public void removeRegion(final ArenaRegion region) {
+        regions.remove(region);
+        ArenaManager.removeFromRegionIndex(region);
+    }
+
     public int getRound() {
         return round;
     }
@@ -528,6 +635,10 @@ public class Arena {
         return spawns;
     }
 
+    public PASpawnDistances getSpawnDistances() {
+        return spawnDistances;
+    }
+
     private Scoreboard getSpecialScoreboard() {
         if (this.scoreboard == null) {
             this.scoreboard = this.getCommonScoreboard(true);
@@ -777,12 +888,8 @@ public class Arena {
     }
 
     public boolean hasPlayer(final Player player) {
-        for (final ArenaTeam team : teams) {
-            if (team.hasPlayer(player)) {
-                return true;
-            }
-        }
-        return equals(ArenaPlayer.parsePlayer(player.getName()).getArena());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
+        return equals(aPlayer.getArena()) || getFighters().contains(aPlayer);
     }
 
     public void increasePlayerCount() {
@@ -1427,6 +1534,7 @@ public class Arena {
         ArenaModuleManager.reset(this, force);
         ArenaManager.advance(Arena.this);
         clearRegions();
+        TeleportManager.release(this);
         PVPArena.instance.getAgm().reset(this, force);
 
         round = 0;
@@ -1750,10 +1858,7 @@ public class Arena {
 
         final Map<Location, ArenaPlayer> players = new HashMap<>();
 
-        for (final ArenaPlayer ap : getFighters()) {
-            if (ap.getStatus() != Status.FIGHT) {
-                continue;
-            }
+        for (final ArenaPlayer ap : getEveryone(Status.FIGHT)) {
             players.put(ap.get().getLocation(), ap);
         }
 
@@ -1807,6 +1912,7 @@ public class Arena {
     public void spawnUnset(final String node) {
         cfg.setManually("spawns." + node, null);
         cfg.save();
+        removeSpawn(node);
     }
 
     public void start() {
@@ -1939,6 +2045,18 @@ public class Arena {
         this.execPostTeleportationFixes(player);
     }
 
+    /**
+     * teleport a given player to the given coord string as part of a batch, the batch has to
+     * be finished by calling {@link #execPostTeleportationFixes(Collection)} once for all of its players
+     *
+     * @param player the player to teleport
+     * @param place  the coord string
+     */
+    public void tpPlayerToCoordNameInBatch(ArenaPlayer player, String place) {
+        Location destination = this.prepareTeleportation(player, place);
+        this.teleportPlayer(place, player, destination);
+    }
+
     /**
      * teleport a given player to the given coord string
      *
@@ -1957,7 +2075,7 @@ public class Arena {
 
     private Location prepareTeleportation(ArenaPlayer aPlayer, String place) {
         Player player = aPlayer.get();
-        getDebugger().i("teleporting " + player + " to coord " + place, player);
+        getDebugger().i(() -> "teleporting " + player + " to coord " + place, player);
 
         if (player == null) {
             PVPArena.instance.getLogger().severe("Player null!");
@@ -1999,35 +2117,55 @@ public class Arena {
     }
 
     private void execPostTeleportationFixes(ArenaPlayer aPlayer) {
+        this.execPostTeleportationFixes(Collections.singletonList(aPlayer));
+    }
+
+    /**
+     * apply the fixes after teleporting players, scheduling one delayed task for all of them
+     *
+     * @param players the teleported players
+     */
+    public void execPostTeleportationFixes(Collection<ArenaPlayer> players) {
         if (cfg.getBoolean(CFG.PLAYER_REMOVEARROWS)) {
-            try {
-                new ArrowHack(aPlayer.get());
-            } catch (final Exception e) {
+            for (final ArenaPlayer aPlayer : players) {
+                try {
+                    new ArrowHack(aPlayer.get());
+                } catch (final Exception e) {
+                }
             }
         }
 
-        if (cfg.getBoolean(CFG.USES_INVISIBILITYFIX) &&
-                aPlayer.getStatus() == Status.FIGHT ||
-                aPlayer.getStatus() == Status.LOUNGE) {
+        final List<ArenaPlayer> shown = new ArrayList<>();
+        for (final ArenaPlayer aPlayer : players) {
+            if (cfg.getBoolean(CFG.USES_INVISIBILITYFIX) &&
+                    aPlayer.getStatus() == Status.FIGHT ||
+                    aPlayer.getStatus() == Status.LOUNGE) {
+                shown.add(aPlayer);
+            }
+        }
+        final boolean noFlight = !cfg.getBoolean(CFG.PERMS_FLY);
 
+        if (!shown.isEmpty() || noFlight) {
+            final List<ArenaPlayer> landed = noFlight ? new ArrayList<>(players) : Collections.<ArenaPlayer>emptyList();
             Bukkit.getScheduler().runTaskLater(PVPArena.instance, new Runnable() {
                 @Override
                 public void run() {
-                    for (final ArenaPlayer player : getFighters()) {
-                        if (player.get() != null) {
-                            player.get().showPlayer(PVPArena.instance, aPlayer.get());
+                    for (final ArenaPlayer aPlayer : shown) {
+                        if (aPlayer.get() == null) {
+                            continue;
+                        }
+                        for (final ArenaPlayer player : getFighters()) {
+                            if (player.get() != null) {
+                                player.get().showPlayer(PVPArena.instance, aPlayer.get());
+                            }
+                        }
+                    }
+                    for (final ArenaPlayer aPlayer : landed) {
+                        if (aPlayer.get() != null) {
+                            aPlayer.get().setAllowFlight(false);
+                            aPlayer.get().setFlying(false);
                         }
                     }
-                }
-            }, 5L);
-        }
-
-        if (!cfg.getBoolean(CFG.PERMS_FLY)) {
-            Bukkit.getScheduler().runTaskLater(PVPArena.instance, new Runnable() {
-                @Override
-                public void run() {
-                    aPlayer.get().setAllowFlight(false);
-                    aPlayer.get().setFlying(false);
                 }
             }, 5L);
         }
@@ -2290,6 +2428,8 @@ public class Arena {
     }
 
     private void updateGoals() {
+        goalHooks = null;
+        TabManager.invalidate(this);
         final List<String> list = new ArrayList<>();
 
         for (final ArenaGoal goal : goals) {
@@ -2301,6 +2441,8 @@ public class Arena {
     }
 
     private void updateMods() {
+        modHooks = null;
+        TabManager.invalidate(this);
         final List<String> list = new ArrayList<>();
 
         for (final ArenaModule mod : mods) {
@@ -2312,6 +2454,7 @@ public class Arena {
     }
 
     public void updateRounds() {
+        goalHooks = null;
         final List<String> result = new ArrayList<>();
 
         for (int i = 0; i < rounds.getCount(); i++) {
@@ -2416,6 +2559,13 @@ public class Arena {
         return language;
     }
 
+    /**
+     * @return the compiled texts of the arena language file, by node
+     */
+    public Map<MSG, MessageTemplate> getMessageOverrides() {
+        return messageOverrides;
+    }
+
     public void setStartingTime() {
         startTime = System.currentTimeMillis();
     }
@@ -2443,6 +2593,17 @@ public class Arena {
             }
         }
         spawns.add(paSpawn);
+        spawnDistances.put(paSpawn);
+    }
+
+    public void removeSpawn(final String name) {
+        for (PASpawn spawn : spawns) {
+            if (spawn.getName().equals(name)) {
+                spawns.remove(spawn);
+                break;
+            }
+        }
+        spawnDistances.remove(name);
     }
 
     public boolean allowsJoinInBattle() {
@@ -3,6 +3,7 @@ package net.slipcor.pvparena.arena;
 import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PALocation;
+import net.slipcor.pvparena.classes.PAPlayerDump;
 import net.slipcor.pvparena.classes.PAStatMap;
 import net.slipcor.pvparena.core.ColorUtils;
 import net.slipcor.pvparena.core.Config;
@@ -11,11 +12,13 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.events.PAPlayerClassChangeEvent;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.DumpManager;
 import net.slipcor.pvparena.managers.InventoryManager;
+import net.slipcor.pvparena.managers.RegionManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.StatisticsManager.Type;
 import org.bukkit.*;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.*;
 import org.bukkit.event.Event;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -25,8 +28,12 @@ import org.bukkit.permissions.PermissionAttachment;
 import org.bukkit.projectiles.ProjectileSource;
 import org.bukkit.scoreboard.Scoreboard;
 
-import java.io.File;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -43,9 +50,14 @@ import static java.util.Optional.ofNullable;
 
 public class ArenaPlayer {
     private static final Debug debug = new Debug(5);
-    private static final Map<String, ArenaPlayer> totalPlayers = new HashMap<>();
+    private static final Map<UUID, ArenaPlayer> totalPlayers = new ConcurrentHashMap<>();
+    private static final Map<String, ArenaPlayer> playersByName = new ConcurrentHashMap<>();
+    private static final Map<UUID, ArenaPlayer> offlinePlayers = new LinkedHashMap<>();
 
     private final String name;
+    private volatile UUID uuid;
+    private volatile WeakReference<Player> player;
+    private volatile boolean statisticsLoaded;
     private boolean telePass;
     private boolean ignoreAnnouncements;
     private boolean teleporting;
@@ -116,7 +128,7 @@ public class ArenaPlayer {
     }
 
     public static Set<ArenaPlayer> getAllArenaPlayers() {
-        return new HashSet<>(totalPlayers.values());
+        return new HashSet<>(playersByName.values());
     }
 
     public boolean getFlyState() {
@@ -208,19 +220,102 @@ public class ArenaPlayer {
      * @return an ArenaPlayer instance belonging to that player
      */
     public static ArenaPlayer parsePlayer(final String name) {
-        synchronized (ArenaPlayer.class) {
-            Player player = Bukkit.getPlayerExact(name);
+        final ArenaPlayer known = playersByName.get(name.toLowerCase());
+        if (known != null && known.getCachedPlayer() != null) {
+            return known;
+        }
+
+        final Player player = Bukkit.getPlayerExact(name);
+
+        // Offline player or NPC
+        if (player == null) {
+            return new ArenaPlayer(name);
+        }
+
+        return fromPlayer(player);
+    }
 
-            // Offline player or NPC
-            if (player == null) {
-                return new ArenaPlayer(name);
+    /**
+     * get the ArenaPlayer of an online player, without any name lookup
+     *
+     * @param player the player to use
+     * @return an ArenaPlayer instance belonging to that player
+     */
+    public static ArenaPlayer fromPlayer(final Player player) {
+        final ArenaPlayer known = totalPlayers.get(player.getUniqueId());
+        if (known != null && known.getCachedPlayer() == player) {
+            return known;
+        }
+        if (!player.isOnline()) {
+            // NPC or outdated player instance
+            return new ArenaPlayer(player.getName());
+        }
+        return registerPlayer(player);
+    }
+
+    /**
+     * register an online player, refreshing the cached player instance, e.g. when joining the server
+     *
+     * @param player the player to register
+     * @return an ArenaPlayer instance belonging to that player
+     */
+    public static ArenaPlayer registerPlayer(final Player player) {
+        final String key = player.getName().toLowerCase();
+        ArenaPlayer aPlayer;
+        synchronized (playersByName) {
+            aPlayer = totalPlayers.get(player.getUniqueId());
+            if (aPlayer == null || !aPlayer.name.equals(player.getName())) {
+                // unknown or renamed: take over loaded statistics of the name, if any
+                if (aPlayer != null) {
+                    playersByName.remove(aPlayer.name.toLowerCase(), aPlayer);
+                }
+                aPlayer = playersByName.get(key);
+                if (aPlayer == null || !aPlayer.name.equals(player.getName())
+                        || (aPlayer.uuid != null && !aPlayer.uuid.equals(player.getUniqueId()))) {
+                    aPlayer = new ArenaPlayer(player.getName());
+                }
             }
+            aPlayer.uuid = player.getUniqueId();
+            aPlayer.player = new WeakReference<>(player);
+            totalPlayers.put(aPlayer.uuid, aPlayer);
+            playersByName.put(key, aPlayer);
+            offlinePlayers.remove(aPlayer.uuid);
+        }
+        if (!aPlayer.statisticsLoaded) {
+            StatisticsManager.loadPlayer(aPlayer);
+        }
+        return aPlayer;
+    }
+
+    /**
+     * forget the player instance of a player leaving the server. The ArenaPlayer is kept for a while,
+     * the players that left the longest time ago are removed once more than statsCacheSize are offline.
+     *
+     * @param player the player leaving
+     */
+    public static void unregisterPlayer(final Player player) {
+        final ArenaPlayer aPlayer = totalPlayers.get(player.getUniqueId());
+        if (aPlayer == null) {
+            return;
+        }
+        aPlayer.player = null;
+
+        final int max = PVPArena.instance.getConfig().getInt("statsCacheSize", 500);
+        synchronized (playersByName) {
+            offlinePlayers.remove(aPlayer.uuid);
+            offlinePlayers.put(aPlayer.uuid, aPlayer);
 
-            if (!totalPlayers.containsKey(name)) {
-                ArenaPlayer ap = new ArenaPlayer(player.getName());
-                totalPlayers.putIfAbsent(name, ap);
+            final Iterator<ArenaPlayer> iterator = offlinePlayers.values().iterator();
+            while (offlinePlayers.size() > max && iterator.hasNext()) {
+                final ArenaPlayer offline = iterator.next();
+                if (offline.arena != null) {
+                    continue; // still needed until the arena is reset
+                }
+                iterator.remove();
+                totalPlayers.remove(offline.uuid, offline);
+                playersByName.remove(offline.name.toLowerCase(), offline);
+                StatisticsManager.unloadPlayer(offline);
             }
-            return totalPlayers.get(name);
         }
     }
 
@@ -231,10 +326,28 @@ public class ArenaPlayer {
      * @return an ArenaPlayer instance belonging to that player
      */
     public static ArenaPlayer addPlayer(final String name) {
-        synchronized (ArenaPlayer.class) {
-            ArenaPlayer aPlayer = new ArenaPlayer(name);
-            totalPlayers.putIfAbsent(name, aPlayer);
-            return totalPlayers.get(name);
+        return addPlayer(name, null);
+    }
+
+    /**
+     * add an ArenaPlayer (used to load statistics)
+     *
+     * @param name the playername to use
+     * @param uuid the player UUID, if known
+     * @return an ArenaPlayer instance belonging to that player
+     */
+    public static ArenaPlayer addPlayer(final String name, final UUID uuid) {
+        synchronized (playersByName) {
+            ArenaPlayer aPlayer = playersByName.get(name.toLowerCase());
+            if (aPlayer == null) {
+                aPlayer = new ArenaPlayer(name);
+                aPlayer.uuid = uuid;
+                playersByName.put(name.toLowerCase(), aPlayer);
+                if (uuid != null) {
+                    totalPlayers.putIfAbsent(uuid, aPlayer);
+                }
+            }
+            return aPlayer;
         }
     }
 
@@ -353,9 +466,9 @@ public class ArenaPlayer {
     }
 
     public void addStatistic(final String arenaName, final Type type,
-                             final int value) {
+                             final long value) {
         if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
+            statistics.put(arenaName, new PAStatMap(this, arenaName));
         }
 
         statistics.get(arenaName).incStat(type, value);
@@ -368,12 +481,7 @@ public class ArenaPlayer {
     private void clearDump() {
         debug.i("clearing dump of " + name, name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
-        if (!file.exists()) {
-            return;
-        }
-        file.delete();
+        DumpManager.delete(name);
     }
 
     public void clearFlyState() {
@@ -395,6 +503,9 @@ public class ArenaPlayer {
     }
 
     public void debugPrint() {
+        if (!debug.isActive(name)) {
+            return;
+        }
         if (status == null || location == null) {
             debug.i("DEBUG PRINT OUT:", name);
             debug.i(name, name);
@@ -423,29 +534,29 @@ public class ArenaPlayer {
     public void dump() {
         debug.i("dumping...", name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
-        try {
-            file.createNewFile();
-        } catch (final Exception e) {
-            e.printStackTrace();
-            return;
-        }
 
-        final YamlConfiguration cfg = new YamlConfiguration();
-        cfg.set("arena", arena.getName());
+        byte[] stateData = null;
         if (state != null) {
-            state.dump(cfg);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                state.dump(out);
+            } catch (final IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            stateData = bytes.toByteArray();
         }
 
-        try {
-            cfg.set("inventory", savedInventory);
-            cfg.set("loc", Config.parseToString(location));
-
-            cfg.save(file);
-        } catch (final Exception e) {
-            e.printStackTrace();
+        ItemStack[] inventory = null;
+        if (savedInventory != null) {
+            // copies, as the items are written in the background
+            inventory = new ItemStack[savedInventory.length];
+            for (int i = 0; i < savedInventory.length; i++) {
+                inventory[i] = savedInventory[i] == null ? null : savedInventory[i].clone();
+            }
         }
+
+        DumpManager.save(name, new PAPlayerDump(arena.getName(), Config.parseToString(location), stateData, inventory));
     }
 
     /**
@@ -454,9 +565,31 @@ public class ArenaPlayer {
      * @return the bukkit player instance
      */
     public Player get() {
+        final Player cached = this.getCachedPlayer();
+        if (cached != null) {
+            return cached;
+        }
         return Bukkit.getPlayerExact(name);
     }
 
+    private Player getCachedPlayer() {
+        final WeakReference<Player> reference = this.player;
+        if (reference == null) {
+            return null;
+        }
+        final Player cached = reference.get();
+        return cached != null && cached.isOnline() ? cached : null;
+    }
+
+    /**
+     * return the player UUID
+     *
+     * @return the UUID, null if the player has not been online yet
+     */
+    public UUID getUniqueId() {
+        return this.uuid;
+    }
+
     /**
      * return the arena
      *
@@ -533,12 +666,27 @@ public class ArenaPlayer {
         return getStatistics(arena);
     }
 
+    /**
+     * @return the stats of all arenas, by arena name
+     */
+    public Map<String, PAStatMap> getAllStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public boolean isStatisticsLoaded() {
+        return statisticsLoaded;
+    }
+
+    public void setStatisticsLoaded(final boolean loaded) {
+        statisticsLoaded = loaded;
+    }
+
     public PAStatMap getStatistics(final Arena arena) {
         if (arena == null) {
             return new PAStatMap();
         }
         if (statistics.get(arena.getName()) == null) {
-            statistics.put(arena.getName(), new PAStatMap());
+            statistics.put(arena.getName(), new PAStatMap(this, arena.getName()));
         }
         return statistics.get(arena.getName());
     }
@@ -568,8 +716,8 @@ public class ArenaPlayer {
         return tempPermissions;
     }
 
-    public int getTotalStatistics(final Type statType) {
-        int sum = 0;
+    public long getTotalStatistics(final Type statType) {
+        long sum = 0;
 
         for (final PAStatMap stat : statistics.values()) {
             sum += stat.getStat(statType);
@@ -601,26 +749,15 @@ public class ArenaPlayer {
     public void readDump() {
         debug.i("reading dump: " + name, name);
         debugPrint();
-        final File file = new File(PVPArena.instance.getDataFolder().getPath()
-                + "/dumps/" + name + ".yml");
-        if (!file.exists()) {
+        final PAPlayerDump dump = DumpManager.load(name);
+        if (dump == null) {
             debug.i("no dump!", name);
             return;
         }
 
-        final YamlConfiguration cfg = new YamlConfiguration();
-        try {
-            cfg.load(file);
-        } catch (final Exception e) {
-            e.printStackTrace();
-            return;
-        }
-
-        arena = ArenaManager.getArenaByName(cfg.getString("arena"));
-        savedInventory = cfg.getList("inventory").toArray(new ItemStack[0]);
-                /*StringParser.getItemStacksFromString(cfg.getString(
-                "inventory", "AIR"));*/
-        location = Config.parseLocation(cfg.getString("loc"));
+        setArena(ArenaManager.getArenaByName(dump.getArenaName()));
+        savedInventory = dump.getInventory();
+        location = Config.parseLocation(dump.getLocation());
 
         if (arena != null) {
             final String goTo = arena.getArenaConfig().getString(CFG.TP_EXIT);
@@ -632,10 +769,14 @@ public class ArenaPlayer {
                 debug.i("player offline, OUT!", name);
                 return;
             }
-            state = PlayerState.undump(cfg, name);
+            try {
+                state = dump.undumpState(name);
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
         }
 
-        file.delete();
+        DumpManager.delete(name);
         debugPrint();
     }
 
@@ -645,51 +786,8 @@ public class ArenaPlayer {
     public void reset() {
         debug.i("destroying arena player " + name, name);
         debugPrint();
-        final YamlConfiguration cfg = new YamlConfiguration();
-        try {
-            if (PVPArena.instance.getConfig().getBoolean("stats")) {
-
-                final String file = PVPArena.instance.getDataFolder()
-                        + "/players.yml";
-                cfg.load(file);
-
-                if (arena != null) {
-                    final String arenaName = arena.getName();
-                    cfg.set(arenaName + '.' + name + ".losses", getStatistics()
-                            .getStat(Type.LOSSES)
-                            + getTotalStatistics(Type.LOSSES));
-                    cfg.set(arenaName + '.' + name + ".wins",
-                            getStatistics()
-                                    .getStat(Type.WINS)
-                                    + getTotalStatistics(Type.WINS));
-                    cfg.set(arenaName + '.' + name + ".kills",
-                            getStatistics().getStat(
-                                    Type.KILLS)
-                                    + getTotalStatistics(Type.KILLS));
-                    cfg.set(arenaName + '.' + name + ".deaths", getStatistics()
-                            .getStat(Type.DEATHS)
-                            + getTotalStatistics(Type.DEATHS));
-                    cfg.set(arenaName + '.' + name + ".damage", getStatistics()
-                            .getStat(Type.DAMAGE)
-                            + getTotalStatistics(Type.DAMAGE));
-                    cfg.set(arenaName + '.' + name + ".maxdamage",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGE)
-                                    + getTotalStatistics(Type.MAXDAMAGE));
-                    cfg.set(arenaName + '.' + name + ".damagetake",
-                            getStatistics().getStat(
-                                    Type.DAMAGETAKE)
-                                    + getTotalStatistics(Type.DAMAGETAKE));
-                    cfg.set(arenaName + '.' + name + ".maxdamagetake",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGETAKE)
-                                    + getTotalStatistics(Type.MAXDAMAGETAKE));
-                }
-
-                cfg.save(file);
-            }
-        } catch (final Exception e) {
-            e.printStackTrace();
+        if (arena != null) {
+            StatisticsManager.update(arena, this);
         }
 
         if (get() == null) {
@@ -714,7 +812,7 @@ public class ArenaPlayer {
                 team.remove(this);
             }
         }
-        arena = null;
+        setArena(null);
         aClass = null;
         get().setFireTicks(0);
         try {
@@ -738,7 +836,16 @@ public class ArenaPlayer {
      * @param arena the arena to set
      */
     public final void setArena(final Arena arena) {
+        if (this.arena == arena) {
+            return;
+        }
+        if (this.arena != null) {
+            this.arena.updateMember(this, status, null);
+        }
         this.arena = arena;
+        if (arena != null) {
+            arena.updateMember(this, null, status);
+        }
     }
 
     /**
@@ -814,9 +921,9 @@ public class ArenaPlayer {
     }
 
     public void setStatistic(final String arenaName, final Type type,
-                             final int value) {
+                             final long value) {
         if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
+            statistics.put(arenaName, new PAStatMap(this, arenaName));
         }
 
         final PAStatMap map = statistics.get(arenaName);
@@ -825,7 +932,15 @@ public class ArenaPlayer {
 
     public void setStatus(final Status status) {
         debug.i(name + '>' + status.name(), name);
+        final Status old = this.status;
         this.status = status;
+        if (arena != null && old != status) {
+            arena.updateMember(this, old, status);
+            final Player player = get();
+            if (player != null) {
+                RegionManager.checkStatus(arena, player);
+            }
+        }
     }
 
     /**
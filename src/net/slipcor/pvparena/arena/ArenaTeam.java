@@ -25,6 +25,7 @@ public class ArenaTeam {
     private final Set<ArenaPlayer> players;
     private final ChatColor color;
     private final String name;
+    private int version;
 
     /**
      * create an arena team instance
@@ -45,6 +46,7 @@ public class ArenaTeam {
      */
     public void add(final ArenaPlayer player) {
         players.add(player);
+        version++;
         debug.i("Added player " + player.getName() + " to team " + name, player.get());
         player.getArena().increasePlayerCount();
     }
@@ -105,7 +107,7 @@ public class ArenaTeam {
     }
 
     public boolean hasPlayer(final Player player) {
-        return players.contains(ArenaPlayer.parsePlayer(player.getName()));
+        return players.contains(ArenaPlayer.fromPlayer(player));
     }
 
     public boolean isEveryoneReady() {
@@ -124,6 +126,14 @@ public class ArenaTeam {
      */
     public void remove(final ArenaPlayer player) {
         players.remove(player);
+        version++;
+    }
+
+    /**
+     * @return a counter of member changes, to validate cached member lists
+     */
+    int getVersion() {
+        return version;
     }
 
     @Override
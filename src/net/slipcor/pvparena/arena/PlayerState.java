@@ -15,6 +15,9 @@ import org.bukkit.event.entity.EntityRegainHealthEvent.RegainReason;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.util.Vector;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Collection;
 
 /**
@@ -104,6 +107,33 @@ public final class PlayerState {
         cfg.set("state.collides", this.collides);
     }
 
+    /**
+     * write the state in the binary format of the player state journal
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public void dump(final DataOutputStream out) throws IOException {
+        debug.i("backing up PlayerState of " + this.name, this.name);
+        out.writeInt(this.fireticks);
+        out.writeInt(this.foodlevel);
+        out.writeInt(this.gamemode);
+        out.writeDouble(this.health);
+        out.writeDouble(this.maxhealth);
+        out.writeFloat(this.exhaustion);
+        out.writeFloat(this.experience);
+        out.writeInt(this.explevel);
+        out.writeFloat(this.saturation);
+        out.writeBoolean(this.displayname != null);
+        if (this.displayname != null) {
+            out.writeUTF(this.displayname);
+        }
+        out.writeBoolean(ArenaPlayer.parsePlayer(this.name).getFlyState());
+        out.writeFloat(this.walkSpeed);
+        out.writeFloat(this.flySpeed);
+        out.writeBoolean(this.collides);
+    }
+
     public static void fullReset(final Arena arena, final Player player) {
         int iHealth = arena.getArenaConfig().getInt(CFG.PLAYER_HEALTH);
 
@@ -322,4 +352,34 @@ public final class PlayerState {
 
         return pState;
     }
+
+    /**
+     * read a state written by {@link #dump(DataOutputStream)}
+     *
+     * @param in    the stream to read from
+     * @param pName the player name
+     * @return the restored state
+     * @throws IOException if reading fails
+     */
+    public static PlayerState undump(final DataInputStream in, final String pName) throws IOException {
+        debug.i("restoring backed up PlayerState of " + pName, pName);
+        final PlayerState pState = new PlayerState(Bukkit.getPlayer(pName));
+
+        pState.fireticks = in.readInt();
+        pState.foodlevel = in.readInt();
+        pState.gamemode = in.readInt();
+        pState.health = in.readDouble();
+        pState.maxhealth = in.readDouble();
+        pState.exhaustion = in.readFloat();
+        pState.experience = in.readFloat();
+        pState.explevel = in.readInt();
+        pState.saturation = in.readFloat();
+        pState.displayname = in.readBoolean() ? in.readUTF() : pName;
+        ArenaPlayer.parsePlayer(pName).setFlyState(in.readBoolean());
+        pState.walkSpeed = in.readFloat();
+        pState.flySpeed = in.readFloat();
+        pState.collides = in.readBoolean();
+
+        return pState;
+    }
 }
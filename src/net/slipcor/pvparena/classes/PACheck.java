@@ -35,6 +35,7 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -49,6 +50,9 @@ import java.util.Set;
  * It is called staticly to iterate over all needed/possible modules to return
  * one committing module (inside the result) and to make modules listen to the
  * checked events if necessary
+ * <p/>
+ * The handlers take their results from a pool per thread instead of creating
+ * one per check, and stop asking once an error has been set.
  *
  * @author slipcor
  * @version v0.10.2
@@ -57,13 +61,108 @@ import java.util.Set;
 public class PACheck {
     private int priority;
     private String error;
+    private Arena errorArena;
+    private MSG errorMessage;
+    private String[] errorArgs;
     private String modName;
+    private final Pool pool;
+    private final boolean readOnly;
     private static final Debug DEBUG = new Debug(9);
+    private static final PACheck NO_ERROR = new PACheck(null, true);
+    private static final ThreadLocal<Pool> POOL = new ThreadLocal<Pool>() {
+        @Override
+        protected Pool initialValue() {
+            return new Pool();
+        }
+    };
+
+    /**
+     * The results of one thread, handed out in the order checks are nested
+     */
+    private static final class Pool {
+        private PACheck[] results = new PACheck[4];
+        private int depth;
+    }
+
+    public PACheck() {
+        this(null, false);
+    }
+
+    private PACheck(final Pool pool, final boolean readOnly) {
+        this.pool = pool;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * get an empty result to run a check with. It belongs to the current thread and
+     * has to be given back with {@link #release()} as soon as it has been read.
+     *
+     * @return an empty result
+     */
+    public static PACheck obtain() {
+        final Pool pool = POOL.get();
+        if (pool.depth == pool.results.length) {
+            pool.results = Arrays.copyOf(pool.results, pool.depth * 2);
+        }
+        PACheck result = pool.results[pool.depth];
+        if (result == null) {
+            result = new PACheck(pool, false);
+            pool.results[pool.depth] = result;
+        } else {
+            result.reset();
+        }
+        pool.depth++;
+        return result;
+    }
+
+    /**
+     * give back a result gotten from {@link #obtain()}, it may not be used afterwards
+     */
+    public void release() {
+        if (pool != null && pool.depth > 0 && pool.results[pool.depth - 1] == this) {
+            pool.depth--;
+        }
+    }
+
+    /**
+     * get a result that stays valid after this one has been released. A pooled result without
+     * error is given as one shared result that can not be changed, without priority and module name.
+     *
+     * @return this result if it is not pooled, otherwise the shared result or a copy of it
+     */
+    public PACheck detach() {
+        if (pool == null) {
+            return this;
+        }
+        if (!hasError()) {
+            return NO_ERROR;
+        }
+        final PACheck result = new PACheck();
+        result.priority = priority;
+        result.error = error;
+        result.errorArena = errorArena;
+        result.errorMessage = errorMessage;
+        result.errorArgs = errorArgs;
+        result.modName = modName;
+        return result;
+    }
+
+    private void reset() {
+        priority = 0;
+        error = null;
+        errorArena = null;
+        errorMessage = null;
+        errorArgs = null;
+        modName = null;
+    }
 
     /**
      * @return the error message
      */
     public String getError() {
+        if (error == null && errorMessage != null) {
+            error = Language.parse(errorArena, errorMessage, errorArgs);
+        }
         return error;
     }
 
@@ -85,7 +184,7 @@ public class PACheck {
      * @return true if there was an error
      */
     public boolean hasError() {
-        return error != null;
+        return error != null || errorMessage != null;
     }
 
     /**
@@ -94,13 +193,37 @@ public class PACheck {
      * @param error the error message
      */
     public void setError(final NCBLoadable loadable, final String error) {
+        checkWritable();
         modName = loadable.getName();
-        try {
-            Integer.parseInt(error);
-        } catch (Exception e) {
-            DEBUG.i(modName + " is setting error to: " + error);
+        if (DEBUG.isActive()) {
+            try {
+                Integer.parseInt(error);
+            } catch (Exception e) {
+                DEBUG.i(modName + " is setting error to: " + error);
+            }
         }
         this.error = error;
+        this.errorMessage = null;
+        priority += 1000;
+    }
+
+    /**
+     * set the error message, it is only read from the language file if it is shown
+     *
+     * @param arena   the arena to read the message for
+     * @param message the message node
+     * @param args    strings to replace
+     */
+    public void setError(final NCBLoadable loadable, final Arena arena, final MSG message, final String... args) {
+        checkWritable();
+        modName = loadable.getName();
+        if (DEBUG.isActive()) {
+            DEBUG.i(modName + " is setting error to: " + message.name());
+        }
+        this.error = null;
+        this.errorArena = arena;
+        this.errorMessage = message;
+        this.errorArgs = args;
         priority += 1000;
     }
 
@@ -110,35 +233,52 @@ public class PACheck {
      * @param priority the priority
      */
     public void setPriority(final NCBLoadable loadable, final int priority) {
+        checkWritable();
         modName = loadable.getName();
-        DEBUG.i(modName + " is setting priority to: " + priority);
+        if (DEBUG.isActive()) {
+            DEBUG.i(modName + " is setting priority to: " + priority);
+        }
         this.priority = priority;
     }
 
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("the shared result without error can not be changed");
+        }
+    }
+
     public static boolean handleCommand(final Arena arena,
                                         final CommandSender sender, final String[] args) {
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaGoal commit = null;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkCommand(res, args[0]);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkCommand(res, args[0]);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break; // errors outrank every goal, nobody can change the result
+                }
             }
-        }
 
-        if (res.hasError()) {
-            arena.msg(Bukkit.getConsoleSender(),
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return false;
+            if (res.hasError()) {
+                arena.msg(Bukkit.getConsoleSender(),
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return false;
+            }
+        } finally {
+            pooled.release();
         }
         if (commit == null) {
             for (final ArenaModule am : arena.getMods()) {
@@ -159,29 +299,40 @@ public class PACheck {
         arena.getDebugger().i(
                 "handleEnd: " + arena.getName() + "; force: " + force);
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaGoal commit = null;
+        final boolean hasError;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            arena.getDebugger().i("checking " + mod.getName());
-            res = mod.checkEnd(res);
-            if (res.priority > priority && priority >= 0) {
-                arena.getDebugger().i("> success and higher priority");
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                arena.getDebugger().i("> fail");
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                arena.getDebugger().i("checking " + mod.getName());
+                res = mod.checkEnd(res);
+                if (res.priority > priority && priority >= 0) {
+                    arena.getDebugger().i("> success and higher priority");
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    arena.getDebugger().i("> fail");
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (res.hasError()) {
-            if (res.error != null && res.error.length() > 1) {
+            hasError = res.hasError();
+            if (hasError && res.getError().length() > 1) {
                 arena.msg(Bukkit.getConsoleSender(),
-                        Language.parse(arena, MSG.ERROR_ERROR, res.error));
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
             }
+        } finally {
+            pooled.release();
+        }
+
+        if (hasError) {
             if (commit != null) {
                 arena.getDebugger().i(
                         "error; committing end: " + commit.getName());
@@ -210,50 +361,64 @@ public class PACheck {
             return 0;
         }
 
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
         int priority = 0;
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.getLives(res, aPlayer);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                priority = res.priority;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
+        try {
+            // the lives are carried as error, so every goal has to be asked
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.getLives(res, aPlayer);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    priority = res.priority;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                }
             }
-        }
 
-        if (res.hasError()) {
-            return Math.round(Float.valueOf(res.error));
+            if (res.hasError()) {
+                return Math.round(Float.valueOf(res.getError()));
+            }
+            return 0;
+        } finally {
+            pooled.release();
         }
-        return 0;
     }
 
     public static void handleInteract(final Arena arena, final Player player,
                                       final Cancellable event, final Block clickedBlock) {
 
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaGoal commit = null;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkInteract(res, player, clickedBlock);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkInteract(res, player, clickedBlock);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (res.hasError()) {
-            arena.msg(Bukkit.getConsoleSender(),
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return;
+            if (res.hasError()) {
+                arena.msg(Bukkit.getConsoleSender(),
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return;
+            }
+        } finally {
+            pooled.release();
         }
 
         if (commit == null) {
@@ -269,66 +434,75 @@ public class PACheck {
                                   final CommandSender sender, final String[] args) {
         arena.getDebugger().i("handleJoin!");
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaModule commModule = null;
+        ArenaGoal commGoal = null;
 
-        for (final ArenaModule mod : arena.getMods()) {
-            res = mod.checkJoin(sender, res, true);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                arena.getDebugger().i("higher priority, commModule := "+mod.getName());
-                priority = res.priority;
-                commModule = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commModule = null;
+        try {
+            for (final ArenaModule mod : arena.getMods()) {
+                res = mod.checkJoin(sender, res, true);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    arena.getDebugger().i("higher priority, commModule := "+mod.getName());
+                    priority = res.priority;
+                    commModule = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commModule = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
-
-        if (commModule != null
-                && !ArenaManager.checkJoin((Player) sender, arena)) {
-            res.setError(commModule,
-                    Language.parse(arena, MSG.ERROR_JOIN_REGION));
-        }
 
-        if (res.hasError() && !"LateLounge".equals(res.modName)) {
-            arena.msg(sender,
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return false;
-        }
+            if (commModule != null
+                    && !ArenaManager.checkJoin((Player) sender, arena)) {
+                res.setError(commModule, arena, MSG.ERROR_JOIN_REGION);
+            }
 
-        if (res.hasError()) {
-            arena.msg(sender,
-                    Language.parse(arena, MSG.NOTICE_NOTICE, res.error));
-            return false;
-        }
+            if (res.hasError() && !"LateLounge".equals(res.modName)) {
+                arena.msg(sender,
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return false;
+            }
 
-        ArenaGoal commGoal = null;
+            if (res.hasError()) {
+                arena.msg(sender,
+                        Language.parse(arena, MSG.NOTICE_NOTICE, res.getError()));
+                return false;
+            }
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkJoin(sender, res, args);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                arena.getDebugger().i("higher priority, commGoal := "+mod.getName());
-                priority = res.priority;
-                commGoal = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commGoal = null;
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkJoin(sender, res, args);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    arena.getDebugger().i("higher priority, commGoal := "+mod.getName());
+                    priority = res.priority;
+                    commGoal = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commGoal = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (commGoal != null && !ArenaManager.checkJoin((Player) sender, arena)) {
-            res.setError(commGoal, Language.parse(arena, MSG.ERROR_JOIN_REGION));
-        }
+            if (commGoal != null && !ArenaManager.checkJoin((Player) sender, arena)) {
+                res.setError(commGoal, arena, MSG.ERROR_JOIN_REGION);
+            }
 
-        if (res.hasError()) {
-            arena.msg(sender,
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return false;
+            if (res.hasError()) {
+                arena.msg(sender,
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return false;
+            }
+        } finally {
+            pooled.release();
         }
 
         final ArenaTeam team;
@@ -481,30 +655,41 @@ public class PACheck {
                                          final Player player, final PlayerDeathEvent event) {
 
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaGoal commit = null;
+        final String error;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkPlayerDeath(res, player);
-            if (res.priority > priority && priority >= 0) {
-                arena.getDebugger().i("success and higher priority", player);
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                arena.getDebugger().i("fail", player);
-                // fail
-                priority = res.priority;
-                commit = null;
-            } else {
-                arena.getDebugger().i("else", player);
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkPlayerDeath(res, player);
+                if (res.priority > priority && priority >= 0) {
+                    arena.getDebugger().i("success and higher priority", player);
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    arena.getDebugger().i("fail", player);
+                    // fail
+                    priority = res.priority;
+                    commit = null;
+                } else {
+                    arena.getDebugger().i("else", player);
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
+            // committing the death may check again, e.g. for the end
+            error = res.getError();
+        } finally {
+            pooled.release();
         }
 
         boolean doesRespawn = true;
-        if (res.hasError()) {
-            arena.getDebugger().i("has error: " + res.error, player);
-            if ("0".equals(res.error)) {
+        if (error != null) {
+            arena.getDebugger().i("has error: " + error, player);
+            if ("0".equals(error)) {
                 doesRespawn = false;
             }
         }
@@ -527,12 +712,9 @@ public class PACheck {
                 InventoryManager.clearInventory(player.getKiller());
                 ArenaPlayer.parsePlayer(player.getKiller().getName()).getArenaClass().equip(player.getKiller());
             }
-            if (arena.getArenaConfig().getItems(CFG.PLAYER_ITEMSONKILL) != null) {
-                ItemStack[] items = arena.getArenaConfig().getItems(CFG.PLAYER_ITEMSONKILL);
-                for (ItemStack item : items) {
-                    if (item != null) {
-                        player.getKiller().getInventory().addItem(item.clone());
-                    }
+            for (ItemStack item : arena.getArenaConfig().getItemTemplates(CFG.PLAYER_ITEMSONKILL)) {
+                if (item != null) {
+                    player.getKiller().getInventory().addItem(item.clone());
                 }
             }
             if (arena.getArenaConfig().getBoolean(CFG.USES_TELEPORTONKILL)) {
@@ -599,7 +781,7 @@ public class PACheck {
         arena.getDebugger().i("handled by: " + commit.getName(), player);
         final int exp = event.getDroppedExp();
 
-        commit.commitPlayerDeath(player, doesRespawn, res.error, event);
+        commit.commitPlayerDeath(player, doesRespawn, error, event);
         for (final ArenaGoal g : arena.getGoals()) {
             arena.getDebugger().i("parsing death: " + g.getName(), player);
             g.parsePlayerDeath(player, player.getLastDamageCause());
@@ -654,27 +836,35 @@ public class PACheck {
         }
 
         int priority = 0;
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         ArenaGoal commit = null;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkSetBlock(res, player, block);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkSetBlock(res, player, block);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (res.hasError()) {
-            arena.msg(Bukkit.getConsoleSender(),
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return false;
+            if (res.hasError()) {
+                arena.msg(Bukkit.getConsoleSender(),
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return false;
+            }
+        } finally {
+            pooled.release();
         }
 
         if (commit == null) {
@@ -686,7 +876,8 @@ public class PACheck {
 
     public static boolean handleSpectate(final Arena arena,
                                       final CommandSender sender) {
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         arena.getDebugger().i("handling spectator", sender);
 
@@ -695,23 +886,30 @@ public class PACheck {
         ArenaModule commit = null;
 
         int priority = 0;
-        for (final ArenaModule mod : arena.getMods()) {
-            res = mod.checkJoin(sender, res, false);
-            if (res.priority > priority && priority >= 0) {
-                arena.getDebugger().i("success and higher priority", sender);
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                arena.getDebugger().i("fail", sender);
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaModule mod : arena.getMods()) {
+                res = mod.checkJoin(sender, res, false);
+                if (res.priority > priority && priority >= 0) {
+                    arena.getDebugger().i("success and higher priority", sender);
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    arena.getDebugger().i("fail", sender);
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (res.hasError()) {
-            arena.msg(sender,
-                    Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            return false;
+            if (res.hasError()) {
+                arena.msg(sender,
+                        Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                return false;
+            }
+        } finally {
+            pooled.release();
         }
 
         if (commit == null) {
@@ -737,36 +935,44 @@ public class PACheck {
 
     public static Boolean handleStart(final Arena arena,
                                       final CommandSender sender, final boolean force) {
-        PACheck res = new PACheck();
+        final PACheck pooled = obtain();
+        PACheck res = pooled;
 
         arena.getDebugger().i("handling start!");
 
         ArenaGoal commit = null;
         int priority = 0;
 
-        for (final ArenaGoal mod : arena.getGoals()) {
-            res = mod.checkStart(res);
-            if (res.priority > priority && priority >= 0) {
-                // success and higher priority
-                priority = res.priority;
-                commit = mod;
-            } else if (res.priority < 0 || priority < 0) {
-                // fail
-                priority = res.priority;
-                commit = null;
+        try {
+            for (final ArenaGoal mod : arena.getGoals()) {
+                res = mod.checkStart(res);
+                if (res.priority > priority && priority >= 0) {
+                    // success and higher priority
+                    priority = res.priority;
+                    commit = mod;
+                } else if (res.priority < 0 || priority < 0) {
+                    // fail
+                    priority = res.priority;
+                    commit = null;
+                }
+                if (res.hasError()) {
+                    break;
+                }
             }
-        }
 
-        if (!force && res.hasError()) {
-            arena.getDebugger().i("not forcing and we have error: " + res.error);
-            if (sender == null) {
-                arena.msg(Bukkit.getConsoleSender(),
-                        Language.parse(arena, MSG.ERROR_ERROR, res.error));
-            } else {
-                arena.msg(sender,
-                        Language.parse(arena, MSG.ERROR_ERROR, res.error));
+            if (!force && res.hasError()) {
+                arena.getDebugger().i("not forcing and we have error: " + res.getError());
+                if (sender == null) {
+                    arena.msg(Bukkit.getConsoleSender(),
+                            Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                } else {
+                    arena.msg(sender,
+                            Language.parse(arena, MSG.ERROR_ERROR, res.getError()));
+                }
+                return null;
             }
-            return null;
+        } finally {
+            pooled.release();
         }
 
         if (!force && arena.getFighters().size() < 2
@@ -807,11 +1013,12 @@ public class PACheck {
             x.parseStart();
         }
 
-        final SpawnCampRunnable scr = new SpawnCampRunnable(arena);
-        arena.spawnCampRunnerID = Bukkit.getScheduler()
-                .scheduleSyncRepeatingTask(PVPArena.instance, scr, 100L,
-                        arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER));
-        scr.setId(arena.spawnCampRunnerID);
+        if (arena.spawnCampRunner != null) {
+            arena.spawnCampRunner.cancel();
+        }
+        arena.spawnCampRunner = new SpawnCampRunnable(arena);
+        arena.spawnCampRunner.runTaskTimerSpread(arena, 100L,
+                arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER));
 
         final Set<ArenaRegion> battleRegions = arena.getRegionsByType(RegionType.BATTLE);
 
@@ -0,0 +1,98 @@
+package net.slipcor.pvparena.classes;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * PVP Arena Hook Table class
+ * </pre>
+ * <p/>
+ * The goals or modules of an arena, by the hooks they implement. Each hook maps to an array of only
+ * those members that override the hook method, so events nobody listens to cost no iteration at all.
+ * Whether a class overrides a method is looked up once per class.
+ */
+
+public final class PAHookTable<T> {
+    private static final Map<Class<?>, boolean[]> OVERRIDES = new ConcurrentHashMap<>();
+
+    private final Collection<? extends T> source;
+    private final T[][] implementers;
+
+    /**
+     * A hook method of a goal or module base class
+     */
+    public interface Hook {
+        int ordinal();
+
+        String getMethodName();
+
+        Class<?>[] getParameterTypes();
+    }
+
+    /**
+     * build the table
+     *
+     * @param source  the goals or modules, kept in their iteration order
+     * @param base    the base class declaring the hooks
+     * @param hooks   all hooks of the base class
+     */
+    @SuppressWarnings("unchecked")
+    public PAHookTable(final Collection<? extends T> source, final Class<T> base, final Hook[] hooks) {
+        this.source = source;
+        this.implementers = (T[][]) Array.newInstance(base, hooks.length, 0);
+        for (final Hook hook : hooks) {
+            final List<T> result = new ArrayList<>();
+            for (final T member : source) {
+                if (overrides(member.getClass(), base, hooks)[hook.ordinal()]) {
+                    result.add(member);
+                }
+            }
+            this.implementers[hook.ordinal()] = result.toArray((T[]) Array.newInstance(base, result.size()));
+        }
+    }
+
+    /**
+     * @param hook the hook
+     * @return the members overriding the hook, not to be modified
+     */
+    public T[] get(final Hook hook) {
+        return this.implementers[hook.ordinal()];
+    }
+
+    /**
+     * @param source the current goals or modules
+     * @return true if the table has been built from that collection
+     */
+    public boolean isBuiltFrom(final Collection<? extends T> source) {
+        return this.source == source;
+    }
+
+    private static boolean[] overrides(final Class<?> type, final Class<?> base, final Hook[] hooks) {
+        boolean[] result = OVERRIDES.get(type);
+        if (result == null) {
+            result = new boolean[hooks.length];
+            for (final Hook hook : hooks) {
+                result[hook.ordinal()] = declares(type, base, hook);
+            }
+            OVERRIDES.put(type, result);
+        }
+        return result;
+    }
+
+    private static boolean declares(final Class<?> type, final Class<?> base, final Hook hook) {
+        for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(hook.getMethodName(), hook.getParameterTypes());
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // not in this class, check its parent
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,239 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.ArenaPlayer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <pre>PVP Arena Leaderboard class</pre>
+ * <p/>
+ * The players of one stat, ordered by value. The entries form a treap that knows the size of each subtree,
+ * so updating a value and finding the rank of a player take O(log n), and reading the top entries does
+ * not create any objects. Equal values are ordered by who got there first.
+ */
+
+public class PALeaderboard {
+    private final Map<ArenaPlayer, Entry> entries = new HashMap<>();
+    private Entry root;
+    private long sequence;
+
+    private static final class Entry {
+        private final ArenaPlayer player;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long order;
+        private long value;
+        private int size;
+        private Entry left;
+        private Entry right;
+
+        private Entry(final ArenaPlayer player) {
+            this.player = player;
+        }
+    }
+
+    /**
+     * @return the amount of players on the board
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * get the value of a player
+     *
+     * @param player the player to check
+     * @return the value, 0 if the player is not on the board
+     */
+    public long getValue(final ArenaPlayer player) {
+        final Entry entry = this.entries.get(player);
+        return entry == null ? 0 : entry.value;
+    }
+
+    /**
+     * set the value of a player, adding them to the board if needed
+     *
+     * @param player the player to update
+     * @param value  the new value
+     */
+    public void update(final ArenaPlayer player, final long value) {
+        Entry entry = this.entries.get(player);
+        if (entry == null) {
+            entry = new Entry(player);
+            this.entries.put(player, entry);
+        } else {
+            if (entry.value == value) {
+                return;
+            }
+            this.root = remove(this.root, entry);
+        }
+        entry.value = value;
+        entry.order = this.sequence++;
+        entry.left = null;
+        entry.right = null;
+        entry.size = 1;
+        this.root = insert(this.root, entry);
+    }
+
+    /**
+     * remove a player from the board
+     *
+     * @param player the player to remove
+     */
+    public void remove(final ArenaPlayer player) {
+        final Entry entry = this.entries.remove(player);
+        if (entry != null) {
+            this.root = remove(this.root, entry);
+        }
+    }
+
+    /**
+     * get the rank of a player
+     *
+     * @param player the player to check
+     * @return the rank, starting with 1, or 0 if the player is not on the board
+     */
+    public int getRank(final ArenaPlayer player) {
+        final Entry entry = this.entries.get(player);
+        if (entry == null) {
+            return 0;
+        }
+        int rank = 0;
+        Entry node = this.root;
+        while (node != null) {
+            if (node == entry) {
+                return rank + size(node.left) + 1;
+            }
+            if (isBefore(entry, node)) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * read the best players, best first
+     *
+     * @param players the array to fill with the players
+     * @param values  the array to fill with their values, at least as long as the players array
+     * @return the amount of entries filled
+     */
+    public int getTop(final ArenaPlayer[] players, final long[] values) {
+        return getTop(players, values, players.length);
+    }
+
+    /**
+     * read the best players, best first
+     *
+     * @param players the array to fill with the players, at least limit long
+     * @param values  the array to fill with their values, at least limit long
+     * @param limit   the maximum amount of players
+     * @return the amount of entries filled
+     */
+    public int getTop(final ArenaPlayer[] players, final long[] values, final int limit) {
+        return fill(this.root, players, values, 0, limit);
+    }
+
+    private static int fill(final Entry node, final ArenaPlayer[] players, final long[] values, final int index,
+                            final int limit) {
+        if (node == null || index >= limit) {
+            return index;
+        }
+        int pos = fill(node.left, players, values, index, limit);
+        if (pos < limit) {
+            players[pos] = node.player;
+            values[pos] = node.value;
+            pos = fill(node.right, players, values, pos + 1, limit);
+        }
+        return pos;
+    }
+
+    private static boolean isBefore(final Entry entry, final Entry other) {
+        if (entry.value != other.value) {
+            return entry.value > other.value;
+        }
+        return entry.order < other.order;
+    }
+
+    private static int size(final Entry node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void resize(final Entry node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static Entry insert(final Entry node, final Entry entry) {
+        if (node == null) {
+            return entry;
+        }
+        if (isBefore(entry, node)) {
+            node.left = insert(node.left, entry);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, entry);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        resize(node);
+        return node;
+    }
+
+    private static Entry remove(final Entry node, final Entry entry) {
+        if (node == null) {
+            return null;
+        }
+        if (node == entry) {
+            return merge(node.left, node.right);
+        }
+        if (isBefore(entry, node)) {
+            node.left = remove(node.left, entry);
+        } else {
+            node.right = remove(node.right, entry);
+        }
+        resize(node);
+        return node;
+    }
+
+    private static Entry merge(final Entry left, final Entry right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            resize(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        resize(right);
+        return right;
+    }
+
+    private static Entry rotateRight(final Entry node) {
+        final Entry left = node.left;
+        node.left = left.right;
+        left.right = node;
+        resize(node);
+        resize(left);
+        return left;
+    }
+
+    private static Entry rotateLeft(final Entry node) {
+        final Entry right = node.right;
+        node.right = right.left;
+        right.left = node;
+        resize(node);
+        resize(right);
+        return right;
+    }
+}
@@ -0,0 +1,90 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.PlayerState;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * <pre>PVP Arena Player Dump class</pre>
+ * <p/>
+ * What is needed to restore a player after a crash: the arena, the location, the player state and the
+ * saved inventory. The player state is kept in its binary form, or as yml for dumps of older versions.
+ */
+
+public class PAPlayerDump {
+    private final String arenaName;
+    private final String location;
+    private final byte[] state;
+    private final YamlConfiguration legacyState;
+    private final ItemStack[] inventory;
+
+    /**
+     * @param arenaName the arena name
+     * @param location  the location to return to, as parsed by Config
+     * @param state     the player state, as written by {@link PlayerState#dump(java.io.DataOutputStream)}, or null
+     * @param inventory the saved inventory, the items must not be changed anymore
+     */
+    public PAPlayerDump(final String arenaName, final String location, final byte[] state,
+                        final ItemStack[] inventory) {
+        this(arenaName, location, state, null, inventory);
+    }
+
+    private PAPlayerDump(final String arenaName, final String location, final byte[] state,
+                         final YamlConfiguration legacyState, final ItemStack[] inventory) {
+        this.arenaName = arenaName;
+        this.location = location;
+        this.state = state;
+        this.legacyState = legacyState;
+        this.inventory = inventory;
+    }
+
+    /**
+     * read a dump of older versions
+     *
+     * @param cfg the dump yml
+     * @return the dump
+     */
+    public static PAPlayerDump fromLegacy(final YamlConfiguration cfg) {
+        final ItemStack[] inventory = cfg.getList("inventory") == null ? null
+                : cfg.getList("inventory").toArray(new ItemStack[0]);
+        return new PAPlayerDump(cfg.getString("arena"), cfg.getString("loc"), null, cfg, inventory);
+    }
+
+    public String getArenaName() {
+        return this.arenaName;
+    }
+
+    public String getLocation() {
+        return this.location;
+    }
+
+    public ItemStack[] getInventory() {
+        return this.inventory;
+    }
+
+    public byte[] getState() {
+        return this.state;
+    }
+
+    /**
+     * restore the player state
+     *
+     * @param pName the player name
+     * @return the player state
+     */
+    public PlayerState undumpState(final String pName) throws IOException {
+        if (this.legacyState != null) {
+            return PlayerState.undump(this.legacyState, pName);
+        }
+        if (this.state == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(this.state))) {
+            return PlayerState.undump(in, pName);
+        }
+    }
+}
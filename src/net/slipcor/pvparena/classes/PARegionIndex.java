@@ -0,0 +1,238 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <pre>PVP Arena Region Index class</pre>
+ * <p/>
+ * A world and chunk keyed index of arena region bounding boxes. Every chunk column touched by a region
+ * holds a reference to that region, plus a bitmask of all protections being active in that column.
+ * A location outside of every region is thus rejected by a single map lookup, without any shape check.
+ */
+
+public class PARegionIndex {
+    private static final ArenaRegion[] EMPTY = new ArenaRegion[0];
+
+    private final Map<String, Map<Long, Bucket>> worlds = new HashMap<>();
+    private final Map<ArenaRegion, Footprint> footprints = new HashMap<>();
+
+    /**
+     * A chunk column, holding the regions touching it
+     */
+    private static final class Bucket {
+        private ArenaRegion[] regions = EMPTY;
+        private int protections;
+
+        private void add(final ArenaRegion region) {
+            this.regions = Arrays.copyOf(this.regions, this.regions.length + 1);
+            this.regions[this.regions.length - 1] = region;
+            this.recalculate();
+        }
+
+        private void remove(final ArenaRegion region) {
+            for (int i = 0; i < this.regions.length; i++) {
+                if (this.regions[i] == region) {
+                    final ArenaRegion[] result = new ArenaRegion[this.regions.length - 1];
+                    System.arraycopy(this.regions, 0, result, 0, i);
+                    System.arraycopy(this.regions, i + 1, result, i, result.length - i);
+                    this.regions = result;
+                    break;
+                }
+            }
+            this.recalculate();
+        }
+
+        private void recalculate() {
+            int mask = 0;
+            for (final ArenaRegion region : this.regions) {
+                mask |= getProtectionMask(region);
+            }
+            this.protections = mask;
+        }
+    }
+
+    /**
+     * The chunk area a region has been indexed with
+     */
+    private static final class Footprint {
+        private final String world;
+        private final int minX;
+        private final int minZ;
+        private final int maxX;
+        private final int maxZ;
+
+        private Footprint(final String world, final int minX, final int minZ, final int maxX, final int maxZ) {
+            this.world = world;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+        }
+
+        private boolean matches(final Footprint other) {
+            return other != null && this.world.equals(other.world)
+                    && this.minX == other.minX && this.minZ == other.minZ
+                    && this.maxX == other.maxX && this.maxZ == other.maxZ;
+        }
+    }
+
+    public static int getProtectionMask(final ArenaRegion region) {
+        int mask = 0;
+        for (final RegionProtection protection : region.getProtections()) {
+            mask |= 1 << protection.ordinal();
+        }
+        return mask;
+    }
+
+    private static long getKey(final int chunkX, final int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * calculate the chunk area of a region, based on its bounding box
+     *
+     * @param region the region to read
+     * @return the chunk footprint, null if the region is not complete yet
+     */
+    private static Footprint calculateFootprint(final ArenaRegion region) {
+        final PABlockLocation min = region.getShape().getMinimumLocation();
+        final PABlockLocation max = region.getShape().getMaximumLocation();
+        if (min == null || max == null || region.getWorldName() == null) {
+            return null;
+        }
+        // shapes may round their bounds (e.g. a sphere radius), add one block of margin
+        final int minX = Math.min(min.getX(), max.getX()) - 1;
+        final int minZ = Math.min(min.getZ(), max.getZ()) - 1;
+        final int maxX = Math.max(min.getX(), max.getX()) + 1;
+        final int maxZ = Math.max(min.getZ(), max.getZ()) + 1;
+        return new Footprint(region.getWorldName(), minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4);
+    }
+
+    /**
+     * add a region to the index, or refresh it if its bounds or protections changed
+     *
+     * @param region the region to index
+     */
+    public void update(final ArenaRegion region) {
+        final Footprint footprint = calculateFootprint(region);
+        final Footprint current = this.footprints.get(region);
+
+        if (footprint != null && footprint.matches(current)) {
+            // same area, only the protections might have changed
+            final Map<Long, Bucket> chunks = this.worlds.get(current.world);
+            for (int x = current.minX; x <= current.maxX; x++) {
+                for (int z = current.minZ; z <= current.maxZ; z++) {
+                    chunks.get(getKey(x, z)).recalculate();
+                }
+            }
+            return;
+        }
+
+        this.remove(region);
+
+        if (footprint == null) {
+            return;
+        }
+
+        Map<Long, Bucket> chunks = this.worlds.get(footprint.world);
+        if (chunks == null) {
+            chunks = new HashMap<>();
+            this.worlds.put(footprint.world, chunks);
+        }
+        for (int x = footprint.minX; x <= footprint.maxX; x++) {
+            for (int z = footprint.minZ; z <= footprint.maxZ; z++) {
+                final long key = getKey(x, z);
+                Bucket bucket = chunks.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket();
+                    chunks.put(key, bucket);
+                }
+                bucket.add(region);
+            }
+        }
+        this.footprints.put(region, footprint);
+    }
+
+    /**
+     * remove a region from the index
+     *
+     * @param region the region to remove
+     */
+    public void remove(final ArenaRegion region) {
+        final Footprint footprint = this.footprints.remove(region);
+        if (footprint == null) {
+            return;
+        }
+        final Map<Long, Bucket> chunks = this.worlds.get(footprint.world);
+        for (int x = footprint.minX; x <= footprint.maxX; x++) {
+            for (int z = footprint.minZ; z <= footprint.maxZ; z++) {
+                final long key = getKey(x, z);
+                final Bucket bucket = chunks.get(key);
+                bucket.remove(region);
+                if (bucket.regions.length == 0) {
+                    chunks.remove(key);
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            this.worlds.remove(footprint.world);
+        }
+    }
+
+    public void clear() {
+        this.worlds.clear();
+        this.footprints.clear();
+    }
+
+    public boolean contains(final ArenaRegion region) {
+        return this.footprints.containsKey(region);
+    }
+
+    private Bucket getBucket(final PABlockLocation location) {
+        final Map<Long, Bucket> chunks = this.worlds.get(location.getWorldName());
+        if (chunks == null) {
+            return null;
+        }
+        return chunks.get(getKey(location.getX() >> 4, location.getZ() >> 4));
+    }
+
+    /**
+     * get the regions that might contain a location. The shapes still have to be checked!
+     *
+     * @param location the location to check
+     * @return an array of candidate regions, not to be modified
+     */
+    public ArenaRegion[] getCandidates(final PABlockLocation location) {
+        final Bucket bucket = this.getBucket(location);
+        return bucket == null ? EMPTY : bucket.regions;
+    }
+
+    /**
+     * get the regions that might contain a location and have a given protection.
+     * The shapes still have to be checked!
+     *
+     * @param location   the location to check
+     * @param protection the protection to look for
+     * @return an array of candidate regions, not to be modified
+     */
+    public ArenaRegion[] getCandidates(final PABlockLocation location, final RegionProtection protection) {
+        final Bucket bucket = this.getBucket(location);
+        if (bucket == null || (bucket.protections & (1 << protection.ordinal())) == 0) {
+            return EMPTY;
+        }
+        return bucket.regions;
+    }
+
+    public int getChunkCount() {
+        int sum = 0;
+        for (final Map<Long, Bucket> chunks : this.worlds.values()) {
+            sum += chunks.size();
+        }
+        return sum;
+    }
+}
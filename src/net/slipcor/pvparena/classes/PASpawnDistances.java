@@ -0,0 +1,160 @@
+package net.slipcor.pvparena.classes;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * PVP Arena Spawn Distances class
+ * </pre>
+ * <p/>
+ * The squared distances between all spawns of an arena, kept up to date as spawns are set and
+ * removed, so that spreading players over the spawns does not measure the same distances again
+ * for every player. Spawns in different worlds count as infinitely far apart.
+ */
+
+public final class PASpawnDistances {
+    private final List<PASpawn> spawns = new ArrayList<>();
+    private final Map<String, Integer> indices = new HashMap<>();
+    private double[][] distances = new double[8][8];
+
+    /**
+     * add a spawn, replacing the spawn of the same name
+     *
+     * @param spawn the spawn
+     */
+    public void put(final PASpawn spawn) {
+        final Integer existing = indices.get(spawn.getName());
+        final int index;
+        if (existing == null) {
+            index = spawns.size();
+            if (index == distances.length) {
+                grow();
+            }
+            spawns.add(spawn);
+            indices.put(spawn.getName(), index);
+        } else {
+            index = existing;
+            spawns.set(index, spawn);
+        }
+        for (int i = 0; i < spawns.size(); i++) {
+            final double distance = i == index ? 0 : measure(spawn, spawns.get(i));
+            distances[index][i] = distance;
+            distances[i][index] = distance;
+        }
+    }
+
+    /**
+     * remove a spawn
+     *
+     * @param name the spawn name
+     */
+    public void remove(final String name) {
+        final Integer index = indices.remove(name);
+        if (index == null) {
+            return;
+        }
+        final int last = spawns.size() - 1;
+        final PASpawn moved = spawns.remove(last);
+        if (index == last) {
+            return;
+        }
+        // move the last spawn into the gap, its row and column with it
+        spawns.set(index, moved);
+        indices.put(moved.getName(), index);
+        for (int i = 0; i < last; i++) {
+            final double distance = i == index ? 0 : distances[last][i];
+            distances[index][i] = distance;
+            distances[i][index] = distance;
+        }
+    }
+
+    /**
+     * order spawns so that each next one is as far as possible from all before it: the spawn
+     * with the largest distance to its nearest chosen spawn is chosen next, a tie goes to the
+     * one with the larger sum of distances. Runs in O(n^2) for n spawns.
+     *
+     * @param candidates the spawns to order, the first one is chosen first
+     * @return the spawn names in their order
+     */
+    public String[] distribute(final Collection<PASpawn> candidates) {
+        final int count = candidates.size();
+        final int[] index = new int[count];
+        final String[] result = new String[count];
+        int pos = 0;
+        for (final PASpawn spawn : candidates) {
+            index[pos] = indexOf(spawn);
+            result[pos++] = spawn.getName();
+        }
+        if (count < 3) {
+            return result;
+        }
+
+        final double[] nearest = new double[count];
+        final double[] sum = new double[count];
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+
+        // result[0 .. chosen - 1] are the chosen names, the unchosen candidates follow
+        for (int chosen = 1; chosen < count; chosen++) {
+            final double[] row = distances[index[chosen - 1]];
+            int best = chosen;
+            for (int i = chosen; i < count; i++) {
+                final double distance = row[index[i]];
+                if (distance < nearest[i]) {
+                    nearest[i] = distance;
+                }
+                sum[i] += distance;
+                if (nearest[i] > nearest[best] || nearest[i] == nearest[best] && sum[i] > sum[best]) {
+                    best = i;
+                }
+            }
+            swap(index, result, nearest, sum, chosen, best);
+        }
+        return result;
+    }
+
+    private int indexOf(final PASpawn spawn) {
+        final Integer index = indices.get(spawn.getName());
+        if (index == null || spawns.get(index) != spawn) {
+            put(spawn);
+            return indices.get(spawn.getName());
+        }
+        return index;
+    }
+
+    private void grow() {
+        final int size = distances.length * 2;
+        final double[][] grown = new double[size][size];
+        for (int i = 0; i < distances.length; i++) {
+            System.arraycopy(distances[i], 0, grown[i], 0, distances.length);
+        }
+        distances = grown;
+    }
+
+    private static double measure(final PASpawn one, final PASpawn other) {
+        final PALocation a = one.getLocation();
+        final PALocation b = other.getLocation();
+        if (!a.getWorldName().equals(b.getWorldName())) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return a.getDistanceSquared(b);
+    }
+
+    private static void swap(final int[] index, final String[] names, final double[] nearest, final double[] sum,
+                             final int a, final int b) {
+        if (a == b) {
+            return;
+        }
+        final int tempIndex = index[a];
+        index[a] = index[b];
+        index[b] = tempIndex;
+        final String tempName = names[a];
+        names[a] = names[b];
+        names[b] = tempName;
+        final double tempNearest = nearest[a];
+        nearest[a] = nearest[b];
+        nearest[b] = tempNearest;
+        final double tempSum = sum[a];
+        sum[a] = sum[b];
+        sum[b] = tempSum;
+    }
+}
@@ -1,43 +1,138 @@
 package net.slipcor.pvparena.classes;
 
+import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.managers.StatisticsManager;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * <pre>PVP Arena Statistics Map class</pre>
  * <p/>
- * A Map of Statistics, bound to a Player name, being sorted by Arena inside the Statistics class
+ * A Map of Statistics, bound to a Player name, being sorted by Arena inside the Statistics class.
+ * The values of the running match are counted apart from the stored values, and added to them
+ * when the match is committed.
  *
  * @author slipcor
  * @version v0.10.2
  */
 
 public class PAStatMap {
-    private final Map<StatisticsManager.Type, Integer> map = new HashMap<>();
+    private final long[] totals = new long[StatisticsManager.Type.values().length];
+    private final long[] match = new long[totals.length];
+    private final ArenaPlayer owner;
+    private final String arenaName;
+
+    public PAStatMap() {
+        this(null, null);
+    }
+
+    /**
+     * @param owner     the player the stats belong to, to keep the leaderboards up to date
+     * @param arenaName the arena the stats belong to
+     */
+    public PAStatMap(final ArenaPlayer owner, final String arenaName) {
+        this.owner = owner;
+        this.arenaName = arenaName;
+    }
 
     public void decStat(final StatisticsManager.Type type) {
         decStat(type, 1);
     }
 
-    public void decStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) - value);
+    public void decStat(final StatisticsManager.Type type, final long value) {
+        incStat(type, -value);
+    }
+
+    /**
+     * get a stat, including the running match
+     *
+     * @param type the stat type
+     * @return the stat value
+     */
+    public long getStat(final StatisticsManager.Type type) {
+        final int index = type.ordinal();
+        if (type.isMaximum()) {
+            return Math.max(totals[index], match[index]);
+        }
+        return totals[index] + match[index];
     }
 
-    public int getStat(final StatisticsManager.Type type) {
-        return map.containsKey(type) ? map.get(type) : 0;
+    /**
+     * get a stat of the running match only
+     *
+     * @param type the stat type
+     * @return the stat value
+     */
+    public long getMatchStat(final StatisticsManager.Type type) {
+        return match[type.ordinal()];
     }
 
     public void incStat(final StatisticsManager.Type type) {
         incStat(type, 1);
     }
 
-    public void incStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) + value);
+    public void incStat(final StatisticsManager.Type type, final long value) {
+        if (value == 0) {
+            return;
+        }
+        final long old = getStat(type);
+        match[type.ordinal()] += value;
+        changed(type, old);
+    }
+
+    /**
+     * raise a maximum stat of the running match, if the value is higher
+     *
+     * @param type  the stat type
+     * @param value the new value
+     */
+    public void maxStat(final StatisticsManager.Type type, final long value) {
+        final int index = type.ordinal();
+        if (value <= match[index]) {
+            return;
+        }
+        final long old = getStat(type);
+        match[index] = value;
+        changed(type, old);
+    }
+
+    /**
+     * set a stat, replacing the stored value and the value of the running match
+     *
+     * @param type  the stat type
+     * @param value the new value
+     */
+    public void setStat(final StatisticsManager.Type type, final long value) {
+        final long old = getStat(type);
+        totals[type.ordinal()] = value;
+        match[type.ordinal()] = 0;
+        changed(type, old);
+    }
+
+    /**
+     * @return true if any stat changed during the running match
+     */
+    public boolean hasMatchStats() {
+        for (final long value : match) {
+            if (value != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * add the values of the running match to the stored values, and start counting anew
+     */
+    public void commitMatch() {
+        for (final StatisticsManager.Type type : StatisticsManager.Type.values()) {
+            final int index = type.ordinal();
+            totals[index] = getStat(type);
+            match[index] = 0;
+        }
     }
 
-    public void setStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, value);
+    private void changed(final StatisticsManager.Type type, final long old) {
+        if (owner != null) {
+            StatisticsManager.updateLeaderboards(owner, arenaName, type, old, getStat(type));
+        }
     }
 }
@@ -0,0 +1,45 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+/**
+ * <pre>PVP Arena Statistics Record class</pre>
+ * <p/>
+ * The stored statistics of one player in one arena
+ */
+
+public class PAStatRecord {
+    private final String arenaName;
+    private final String id;
+    private final String name;
+    private final long[] values;
+
+    /**
+     * @param arenaName the arena name
+     * @param id        the player node, the UUID or the name of legacy entries
+     * @param name      the player name
+     * @param values    the stat values, indexed by type ordinal
+     */
+    public PAStatRecord(final String arenaName, final String id, final String name, final long[] values) {
+        this.arenaName = arenaName;
+        this.id = id;
+        this.name = name;
+        this.values = values;
+    }
+
+    public String getArenaName() {
+        return this.arenaName;
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getStat(final Type type) {
+        return this.values[type.ordinal()];
+    }
+}
@@ -0,0 +1,134 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.runnables.ArenaTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>PVP Arena Timing Wheel class</pre>
+ * <p/>
+ * A hierarchical timing wheel holding the arena tasks by the tick they are due. Each level has 64 slots,
+ * a slot of a higher level covering a full turn of the level below. Scheduling and advancing a tick cost
+ * the same no matter how many tasks are waiting, tasks of higher levels cascade down when their turn comes.
+ */
+
+public class PATimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final List<List<ArenaTask>> slots = new ArrayList<>();
+    private long tick;
+    private int size;
+
+    public PATimingWheel() {
+        for (int i = 0; i < SLOTS * LEVELS; i++) {
+            this.slots.add(new ArrayList<ArenaTask>());
+        }
+    }
+
+    /**
+     * @return the tick the wheel is at
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * @return the amount of tasks waiting in the wheel
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * add a task, due at {@link ArenaTask#getDueTick()}. Tasks due now or in the past are run next tick,
+     * their due tick is kept so that periodic tasks stay on their schedule.
+     *
+     * @param task the task to add
+     */
+    public void add(final ArenaTask task) {
+        this.place(task, this.tick + 1);
+    }
+
+    /**
+     * put a task into its slot
+     *
+     * @param task     the task to add
+     * @param earliest the first tick the task may run at
+     */
+    private void place(final ArenaTask task, final long earliest) {
+        final long due = Math.max(task.getDueTick(), earliest);
+        final long delta = due - this.tick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+
+        final int slot;
+        if (delta >= 1L << (SLOT_BITS * LEVELS)) {
+            // too far away, park it in the last slot before the top level wraps and cascade it again
+            slot = (int) (((this.tick >> (SLOT_BITS * level)) + SLOT_MASK) & SLOT_MASK);
+        } else {
+            slot = (int) ((due >> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+        this.slots.get(level * SLOTS + slot).add(task);
+        this.size++;
+    }
+
+    /**
+     * advance the wheel by one tick
+     *
+     * @return the tasks due at the new tick, in order of scheduling
+     */
+    public List<ArenaTask> advance() {
+        this.tick++;
+
+        for (int level = 1; level < LEVELS; level++) {
+            if ((this.tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            this.cascade(level);
+        }
+
+        final int index = (int) (this.tick & SLOT_MASK);
+        final List<ArenaTask> due = this.slots.get(index);
+        this.slots.set(index, new ArrayList<ArenaTask>());
+        this.size -= due.size();
+        return due;
+    }
+
+    private void cascade(final int level) {
+        final int index = level * SLOTS + (int) ((this.tick >> (SLOT_BITS * level)) & SLOT_MASK);
+        final List<ArenaTask> tasks = this.slots.get(index);
+        if (tasks.isEmpty()) {
+            return;
+        }
+        this.slots.set(index, new ArrayList<ArenaTask>());
+        this.size -= tasks.size();
+        for (final ArenaTask task : tasks) {
+            if (!task.isCancelled()) {
+                // tasks due at this very tick go to the slot advance() is about to take
+                this.place(task, this.tick);
+            }
+        }
+    }
+
+    /**
+     * remove all tasks
+     *
+     * @return the tasks that have been waiting
+     */
+    public List<ArenaTask> clear() {
+        final List<ArenaTask> result = new ArrayList<>();
+        for (final List<ArenaTask> tasks : this.slots) {
+            result.addAll(tasks);
+            tasks.clear();
+        }
+        this.size = 0;
+        return result;
+    }
+}
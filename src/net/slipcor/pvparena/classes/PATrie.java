@@ -0,0 +1,153 @@
+package net.slipcor.pvparena.classes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * PVP Arena Trie class
+ * </pre>
+ * <p/>
+ * A prefix tree of names, ignoring case. Finding a name or all names starting with a prefix only
+ * walks the characters of the prefix, instead of comparing it to every name. The names are kept
+ * as they have been put, and are visited in alphabetical order.
+ */
+
+public final class PATrie<V> {
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    private static final class Node<V> {
+        private char[] chars = NO_CHARS;
+        private Node<V>[] children = noNodes();
+        private String key;
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] noNodes() {
+            return (Node<V>[]) NO_NODES;
+        }
+
+        private Node<V> get(final char c) {
+            final int pos = Arrays.binarySearch(chars, c);
+            return pos < 0 ? null : children[pos];
+        }
+
+        private Node<V> getOrCreate(final char c) {
+            int pos = Arrays.binarySearch(chars, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            pos = -pos - 1;
+            final char[] newChars = new char[chars.length + 1];
+            final Node<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(chars, 0, newChars, 0, pos);
+            System.arraycopy(chars, pos, newChars, pos + 1, chars.length - pos);
+            System.arraycopy(children, pos, newChildren, pos + 1, children.length - pos);
+            newChars[pos] = c;
+            newChildren[pos] = new Node<>();
+            chars = newChars;
+            children = newChildren;
+            return newChildren[pos];
+        }
+    }
+
+    /**
+     * add a name, replacing the value of a name differing only in case
+     *
+     * @param key   the name
+     * @param value the value
+     */
+    public void put(final String key, final V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrCreate(Character.toLowerCase(key.charAt(i)));
+        }
+        if (node.key == null) {
+            size++;
+        }
+        node.key = key;
+        node.value = value;
+    }
+
+    /**
+     * @param key the name, in any case
+     * @return the value of the name, null if not found
+     */
+    public V get(final String key) {
+        final Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * @param prefix the prefix, in any case
+     * @return the value of the first name starting with the prefix, null if there is none
+     */
+    public V getFirst(final String prefix) {
+        Node<V> node = find(prefix);
+        while (node != null && node.key == null) {
+            node = node.children.length == 0 ? null : node.children[0];
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * add all names starting with a prefix to a collection
+     *
+     * @param prefix the prefix, in any case
+     * @param result the collection to add to
+     */
+    public void collect(final String prefix, final Collection<? super String> result) {
+        final Node<V> node = find(prefix);
+        if (node != null) {
+            collect(node, result);
+        }
+    }
+
+    /**
+     * visit all names starting with a prefix and their values
+     *
+     * @param prefix the prefix, in any case
+     * @param action the action to run
+     */
+    public void forEach(final String prefix, final BiConsumer<String, V> action) {
+        final Node<V> node = find(prefix);
+        if (node != null) {
+            forEach(node, action);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Node<V> find(final String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.get(Character.toLowerCase(key.charAt(i)));
+        }
+        return node;
+    }
+
+    private static <V> void collect(final Node<V> node, final Collection<? super String> result) {
+        if (node.key != null) {
+            result.add(node.key);
+        }
+        for (final Node<V> child : node.children) {
+            collect(child, result);
+        }
+    }
+
+    private static <V> void forEach(final Node<V> node, final BiConsumer<String, V> action) {
+        if (node.key != null) {
+            action.accept(node.key, node.value);
+        }
+        for (final Node<V> child : node.children) {
+            forEach(child, action);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package net.slipcor.pvparena.commands;
+
+import net.slipcor.pvparena.api.IArenaCommandHandler;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PATrie;
+import org.bukkit.command.CommandSender;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * Command Index class
+ * </pre>
+ * <p/>
+ * The main commands and shortcuts of a list of command handlers, to look up a typed command
+ * and to complete a partly typed one without going through every handler. Not changed after
+ * it has been built, so it can be read from any thread.
+ */
+
+public final class CommandIndex<T extends IArenaCommandHandler> {
+    private static final Map<List<?>, CommandIndex<?>> INDICES = new IdentityHashMap<>();
+
+    private final int sourceSize;
+    private final PATrie<List<T>> all = new PATrie<>();
+    private final PATrie<List<T>> mains = new PATrie<>();
+    private final PATrie<List<T>> shorts = new PATrie<>();
+
+    /**
+     * build the index of a list of handlers
+     *
+     * @param handlers the handlers, earlier ones win if they share a command
+     */
+    public CommandIndex(final List<? extends T> handlers) {
+        this.sourceSize = handlers.size();
+        for (final T handler : handlers) {
+            for (final String value : handler.getMain()) {
+                add(all, value, handler);
+                add(mains, value, handler);
+            }
+            for (final String value : handler.getShort()) {
+                add(all, value, handler);
+                add(shorts, value, handler);
+            }
+        }
+    }
+
+    /**
+     * get the index of a handler list that lives as long as the plugin, it is rebuilt when
+     * handlers have been added to the list
+     *
+     * @param handlers the handler list
+     * @return the index of the list
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T extends IArenaCommandHandler> CommandIndex<T> of(final List<? extends T> handlers) {
+        CommandIndex<T> index = (CommandIndex<T>) INDICES.get(handlers);
+        if (index == null || index.sourceSize != handlers.size()) {
+            index = new CommandIndex<>(handlers);
+            INDICES.put(handlers, index);
+        }
+        return index;
+    }
+
+    private static <T> void add(final PATrie<List<T>> trie, final String value, final T handler) {
+        List<T> list = trie.get(value);
+        if (list == null) {
+            list = new ArrayList<>(1);
+            trie.put(value, list);
+        }
+        if (!list.contains(handler)) {
+            list.add(handler);
+        }
+    }
+
+    /**
+     * @param command the typed command, in any case
+     * @return the first handler having it as main command or shortcut, null if there is none
+     */
+    public T get(final String command) {
+        final List<T> list = all.get(command);
+        return list == null ? null : list.get(0);
+    }
+
+    /**
+     * @param command the typed shortcut, in any case
+     * @return the first handler having it as shortcut, null if there is none
+     */
+    public T getShort(final String command) {
+        final List<T> list = shorts.get(command);
+        return list == null ? null : list.get(0);
+    }
+
+    /**
+     * @param command the typed command, in any case
+     * @return all handlers having it as main command or shortcut
+     */
+    public List<T> getAll(final String command) {
+        final List<T> list = all.get(command);
+        return list == null ? Collections.<T>emptyList() : list;
+    }
+
+    /**
+     * add the commands starting with a prefix that the sender may use. Shortcuts are only
+     * added if the prefix starts like one.
+     *
+     * @param matches the set to add to
+     * @param sender  the sender completing the command
+     * @param arena   the arena to check the permissions for, can be null
+     * @param prefix  the typed prefix
+     */
+    public void addMatches(final Set<String> matches, final CommandSender sender, final Arena arena, final String prefix) {
+        final PATrie<List<T>> trie = prefix.startsWith("!") || prefix.startsWith("-") ? shorts : mains;
+        trie.forEach(prefix, (value, handlers) -> {
+            for (final T handler : handlers) {
+                if (handler.hasPerms(sender, arena, true)) {
+                    matches.add(value);
+                    return;
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package net.slipcor.pvparena.commands;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.core.Help;
+import net.slipcor.pvparena.core.Help.HELP;
+import net.slipcor.pvparena.core.StringParser;
+import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.TickManager;
+import net.slipcor.pvparena.managers.TickManager.TickStats;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>PVP Arena TIMINGS Command class</pre>
+ * <p/>
+ * A command to display the scheduled arena tasks and their timings
+ */
+
+public class PAA_Timings extends AbstractGlobalCommand {
+
+    public PAA_Timings() {
+        super(new String[]{"pvparena.cmds.timings"});
+    }
+
+    @Override
+    public void commit(final CommandSender sender, final String[] args) {
+        if (!hasPerms(sender)) {
+            return;
+        }
+
+        if (!argCountValid(sender, args, new Integer[]{0, 1})) {
+            return;
+        }
+
+        if (args.length > 0 && "reset".equalsIgnoreCase(args[0])) {
+            TickManager.resetTimings();
+            Arena.pmsg(sender, ChatColor.COLOR_CHAR + "eArena task timings have been reset.");
+            return;
+        }
+
+        if (args.length > 0 && "load".equalsIgnoreCase(args[0])) {
+            Arena.pmsg(sender, ChatColor.COLOR_CHAR + "e" + ChatColor.COLOR_CHAR + "n-- PVP Arena load timings --");
+            for (final Map.Entry<String, long[]> entry : ArenaManager.getLoadTimings().entrySet()) {
+                Arena.pmsg(sender, ChatColor.COLOR_CHAR + "a" + entry.getKey()
+                        + ChatColor.COLOR_CHAR + "7 - parsed: " + ChatColor.COLOR_CHAR + 'f' + entry.getValue()[0] / 1000 + "us"
+                        + ChatColor.COLOR_CHAR + "7, set up: " + ChatColor.COLOR_CHAR + 'f' + entry.getValue()[1] / 1000 + "us");
+            }
+            return;
+        }
+
+        final long ticks = Math.max(1L, TickManager.getRecordedTicks());
+
+        Arena.pmsg(sender, ChatColor.COLOR_CHAR + "e" + ChatColor.COLOR_CHAR + "n-- PVP Arena task timings --");
+        Arena.pmsg(sender, ChatColor.COLOR_CHAR + "eWaiting tasks: " + ChatColor.COLOR_CHAR + 'f' + TickManager.getWaitingTasks()
+                + ChatColor.COLOR_CHAR + "e, recorded ticks: " + ChatColor.COLOR_CHAR + 'f' + ticks
+                + ChatColor.COLOR_CHAR + "e, budget: " + ChatColor.COLOR_CHAR + 'f' + TickManager.getBudget() / 1000 + "us");
+        Arena.pmsg(sender, ChatColor.COLOR_CHAR + "eSpread tasks by tick: " + ChatColor.COLOR_CHAR + 'f' + Arrays.toString(TickManager.getPhaseLoad()));
+
+        for (final Map.Entry<Arena, TickStats> entry : TickManager.getStats().entrySet()) {
+            if (args.length > 0 && (entry.getKey() == null || !entry.getKey().getName().equalsIgnoreCase(args[0]))) {
+                continue;
+            }
+            final TickStats stats = entry.getValue();
+            Arena.pmsg(sender, ChatColor.COLOR_CHAR + "7-----------------------------------");
+            Arena.pmsg(sender, ChatColor.COLOR_CHAR + "a" + (entry.getKey() == null ? "global" : entry.getKey().getName())
+                    + ChatColor.COLOR_CHAR + "7 - tasks: " + ChatColor.COLOR_CHAR + 'f' + stats.getTaskCount()
+                    + ChatColor.COLOR_CHAR + "7, runs: " + ChatColor.COLOR_CHAR + 'f' + stats.getRuns()
+                    + ChatColor.COLOR_CHAR + "7, avg: " + ChatColor.COLOR_CHAR + 'f' + stats.getNanos() / ticks / 1000 + "us/tick"
+                    + ChatColor.COLOR_CHAR + "7, max: " + ChatColor.COLOR_CHAR + 'f' + stats.getMaxTickNanos() / 1000 + "us"
+                    + ChatColor.COLOR_CHAR + "7, deferred: " + ChatColor.COLOR_CHAR + 'f' + stats.getDeferred());
+            if (!stats.getTaskCounts().isEmpty()) {
+                Arena.pmsg(sender, ChatColor.COLOR_CHAR + "7" + StringParser.joinSet(stats.getTaskCounts().entrySet(), ", "));
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getName();
+    }
+
+    @Override
+    public void displayHelp(final CommandSender sender) {
+        Arena.pmsg(sender, Help.parse(HELP.TIMINGS));
+    }
+
+    @Override
+    public List<String> getMain() {
+        return Collections.singletonList("timings");
+    }
+
+    @Override
+    public List<String> getShort() {
+        return Collections.singletonList("!ti");
+    }
+
+    @Override
+    public CommandTree<String> getSubs(final Arena nothing) {
+        final CommandTree<String> result = new CommandTree<>(null);
+        for (final Map.Entry<Arena, TickStats> entry : TickManager.getStats().entrySet()) {
+            if (entry.getKey() != null) {
+                result.define(new String[]{entry.getKey().getName()});
+            }
+        }
+        result.define(new String[]{"reset"});
+        result.define(new String[]{"load"});
+        return result;
+    }
+}
@@ -11,14 +11,18 @@ import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.loadables.ArenaRegionShape;
 import net.slipcor.pvparena.loadables.ArenaRegionShapeManager;
+import net.slipcor.pvparena.managers.ConfigCacheManager;
+import net.slipcor.pvparena.managers.ConfigSaveManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static net.slipcor.pvparena.core.ItemStackUtils.getItemStacksFromConfig;
 import static net.slipcor.pvparena.core.Utils.getSerializableItemStacks;
@@ -38,10 +42,11 @@ import static net.slipcor.pvparena.core.Utils.getSerializableItemStacks;
 public class Config {
     private final YamlConfiguration cfg;
     private final File configFile;
-    private final Map<String, Boolean> booleans;
-    private final Map<String, Integer> ints;
-    private final Map<String, Double> doubles;
-    private final Map<String, String> strings;
+    private volatile Values values = new Values();
+    private volatile Map<String, Set<?>> typeSets = new ConcurrentHashMap<>();
+    private volatile Map<String, ItemStack[]> itemTemplates = new ConcurrentHashMap<>();
+
+    private static final Set<Material> NO_MATERIALS = Collections.unmodifiableSet(EnumSet.noneOf(Material.class));
 
     public enum CFG {
 
@@ -425,13 +430,16 @@ public class Config {
         private final String type;
         private final String module;
 
-        public static CFG getByNode(final String node) {
-            for (final CFG m : CFG.getValues()) {
-                if (m.node.equals(node)) {
-                    return m;
-                }
+        private static final Map<String, CFG> BY_NODE = new HashMap<>();
+
+        static {
+            for (final CFG m : values()) {
+                BY_NODE.put(m.node, m);
             }
-            return null;
+        }
+
+        public static CFG getByNode(final String node) {
+            return BY_NODE.get(node);
         }
 
         CFG(final String node, final String value, final String source) {
@@ -487,8 +495,14 @@ public class Config {
             return node;
         }
 
-        public static CommandTree<String> getTabTree() {
+        private static volatile CommandTree<String> tabTree;
 
+        public static CommandTree<String> getTabTree() {
+            // the nodes never change at runtime, so the tree is only built once
+            final CommandTree<String> cached = tabTree;
+            if (cached != null) {
+                return cached;
+            }
             final CommandTree<String> result = new CommandTree<>(null);
             for (final CFG cfg : values()) {
                 final String[] split = cfg.node.split("\\.");
@@ -512,6 +526,7 @@ public class Config {
                     result.define(new String[]{ending});
                 }
             }
+            tabTree = result;
             return result;
         }
 
@@ -541,6 +556,87 @@ public class Config {
         }
     }
 
+    /**
+     * The values of the CFG nodes, indexed by their ordinal. An instance is never
+     * changed once it has been published, updates replace it as a whole, so it can
+     * be read from any thread without locking. Nodes without a value of a type hold
+     * their default value, if it is of that type.
+     */
+    private static final class Values {
+        private static final byte BOOLEAN = 1;
+        private static final byte INT = 2;
+        private static final byte DOUBLE = 4;
+        private static final byte STRING = 8;
+        private static final Values DEFAULTS = new Values(CFG.values());
+
+        private final byte[] present;
+        private final boolean[] booleans;
+        private final int[] ints;
+        private final double[] doubles;
+        private final String[] strings;
+
+        private Values(final CFG[] nodes) {
+            final int size = nodes.length;
+            present = new byte[size];
+            booleans = new boolean[size];
+            ints = new int[size];
+            doubles = new double[size];
+            strings = new String[size];
+            for (final CFG node : nodes) {
+                store(node.ordinal(), node.getValue());
+            }
+        }
+
+        private Values() {
+            present = new byte[DEFAULTS.present.length];
+            booleans = DEFAULTS.booleans.clone();
+            ints = DEFAULTS.ints.clone();
+            doubles = DEFAULTS.doubles.clone();
+            strings = DEFAULTS.strings.clone();
+        }
+
+        private Values(final Values other) {
+            present = other.present.clone();
+            booleans = other.booleans.clone();
+            ints = other.ints.clone();
+            doubles = other.doubles.clone();
+            strings = other.strings.clone();
+        }
+
+        private void put(final int index, final Object value) {
+            if (value == null) {
+                present[index] = 0;
+                booleans[index] = DEFAULTS.booleans[index];
+                ints[index] = DEFAULTS.ints[index];
+                doubles[index] = DEFAULTS.doubles[index];
+                strings[index] = DEFAULTS.strings[index];
+                return;
+            }
+            present[index] |= store(index, value);
+        }
+
+        private byte store(final int index, final Object value) {
+            if (value instanceof Boolean) {
+                booleans[index] = (Boolean) value;
+                return BOOLEAN;
+            } else if (value instanceof Integer) {
+                ints[index] = (Integer) value;
+                return INT;
+            } else if (value instanceof Double) {
+                doubles[index] = (Double) value;
+                return DOUBLE;
+            } else if (value instanceof String) {
+                strings[index] = (String) value;
+                return STRING;
+            }
+            return 0;
+        }
+
+        private boolean has(final int index, final byte kind) {
+            return (present[index] & kind) != 0;
+        }
+    }
+
     /**
      * Create a new Config instance that uses the specified file for loading and
      * saving.
@@ -550,10 +646,6 @@ public class Config {
     public Config(final File configFile) {
         cfg = new YamlConfiguration();
         this.configFile = configFile;
-        booleans = new HashMap<>();
-        ints = new HashMap<>();
-        doubles = new HashMap<>();
-        strings = new HashMap<>();
     }
 
     public void createDefaults(final List<String> goals, final List<String> modules) {
@@ -574,13 +666,14 @@ public class Config {
 
     /**
      * Load the config-file into the YamlConfiguration, and then populate the
-     * value maps.
+     * value arrays. Unchanged files are read from the config cache.
      *
      * @return true, if the load succeeded, false otherwise.
      */
     public boolean load() {
         try {
-            cfg.load(configFile);
+            ConfigSaveManager.flush(configFile);
+            ConfigCacheManager.load(configFile, cfg);
             reloadMaps();
             return true;
         } catch (final Exception e) {
@@ -590,39 +683,52 @@ public class Config {
     }
 
     /**
-     * Iterates through all keys in the config-file, and populates the value
-     * maps. Boolean values are stored in the booleans-map, Strings in the
-     * strings-map, etc.
+     * Iterates through all keys in the config-file, and builds the value
+     * arrays of the CFG nodes. The new values replace the old ones at once,
+     * readers see either of them but never a mix.
      */
-    public void reloadMaps() {
+    public synchronized void reloadMaps() {
+        final Values result = new Values();
         for (final String s : cfg.getKeys(true)) {
-            final Object object = cfg.get(s);
-
-            if (object instanceof Boolean) {
-                booleans.put(s, (Boolean) object);
-            } else if (object instanceof Integer) {
-                ints.put(s, (Integer) object);
-            } else if (object instanceof Double) {
-                doubles.put(s, (Double) object);
-            } else if (object instanceof String) {
-                strings.put(s, (String) object);
+            final CFG node = CFG.getByNode(s);
+            if (node != null) {
+                final Object object = cfg.get(s);
+                if (object != null) {
+                    result.put(node.ordinal(), object);
+                }
             }
         }
+        values = result;
+        clearCaches();
     }
 
     /**
-     * Save the YamlConfiguration to the config-file.
+     * Drop the values built from lists, they are built again when needed.
+     */
+    private void clearCaches() {
+        typeSets = new ConcurrentHashMap<>();
+        itemTemplates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Save the YamlConfiguration to the config-file. The file is written in
+     * the background once the config has not been changed for a moment.
      *
-     * @return true, if the save succeeded, false otherwise.
+     * @return true
      */
     public boolean save() {
-        try {
-            cfg.save(configFile);
-            return true;
-        } catch (final Exception e) {
-            e.printStackTrace();
-            return false;
-        }
+        ConfigSaveManager.save(configFile, this);
+        return true;
+    }
+
+    /**
+     * Write the YamlConfiguration to the config-file now.
+     *
+     * @return true, if the save succeeded, false otherwise.
+     */
+    public boolean flush() {
+        ConfigSaveManager.save(configFile, this);
+        return ConfigSaveManager.flush(configFile);
     }
 
     /**
@@ -631,6 +737,7 @@ public class Config {
      * @return true, if the delete succeeded, false otherwise.
      */
     public boolean delete() {
+        ConfigSaveManager.discard(configFile);
         return configFile.delete();
     }
 
@@ -643,7 +750,7 @@ public class Config {
     /**
      * Get the YamlConfiguration associated with this Config instance. Note that
      * changes made directly to the YamlConfiguration will cause an
-     * inconsistency with the value maps unless reloadMaps() is called.
+     * inconsistency with the value arrays unless reloadMaps() is called.
      *
      * @return the YamlConfiguration of this Config instance
      */
@@ -662,95 +769,79 @@ public class Config {
     }
 
     /**
-     * Retrieve a boolean from the value maps.
+     * Retrieve a boolean from the value arrays.
      *
      * @param cfg the node of the value
-     * @return the boolean value of the path if the path exists, false otherwise
+     * @return the boolean value of the path if the path exists, the default value otherwise
      */
     public boolean getBoolean(final CFG cfg) {
-        return getBoolean(cfg, (Boolean) cfg.getValue());
+        return values.booleans[cfg.ordinal()];
     }
 
     /**
-     * Retrieve a boolean from the value maps.
+     * Retrieve an int from the value arrays.
      *
      * @param cfg the node of the value
-     * @param def a default value to return if the value was not in the map
-     * @return the boolean value of the path if it exists, def otherwise
-     */
-    private boolean getBoolean(final CFG cfg, final boolean def) {
-        final String path = cfg.getNode();
-        final Boolean result = booleans.get(path);
-        return result == null ? def : result;
-    }
-
-    /**
-     * Retrieve an int from the value maps.
-     *
-     * @param cfg the node of the value
-     * @return the int value of the path if the path exists, 0 otherwise
+     * @return the int value of the path if the path exists, the default value otherwise
      */
     public int getInt(final CFG cfg) {
-        return getInt(cfg, (Integer) cfg.getValue());
+        return values.ints[cfg.ordinal()];
     }
 
     /**
-     * Retrieve an int from the value maps.
+     * Retrieve an int from the value arrays.
      *
      * @param cfg the node of the value
-     * @param def a default value to return if the value was not in the map
+     * @param def a default value to return if the value was not in the arrays
      * @return the int value of the path if it exists, def otherwise
      */
     public int getInt(final CFG cfg, final int def) {
-        final String path = cfg.getNode();
-        final Integer result = ints.get(path);
-        return result == null ? def : result;
+        final Values current = values;
+        return current.has(cfg.ordinal(), Values.INT) ? current.ints[cfg.ordinal()] : def;
     }
 
     /**
-     * Retrieve a double from the value maps.
+     * Retrieve a double from the value arrays.
      *
      * @param cfg the node of the value
-     * @return the double value of the path if the path exists, 0D otherwise
+     * @return the double value of the path if the path exists, the default value otherwise
      */
     public double getDouble(final CFG cfg) {
-        return getDouble(cfg, (Double) cfg.getValue());
+        return values.doubles[cfg.ordinal()];
     }
 
     /**
-     * Retrieve a double from the value maps.
+     * Retrieve a double from the value arrays.
      *
      * @param cfg the node of the value
-     * @param def a default value to return if the value was not in the map
+     * @param def a default value to return if the value was not in the arrays
      * @return the double value of the path if it exists, def otherwise
      */
     public double getDouble(final CFG cfg, final double def) {
-        final String path = cfg.getNode();
-        final Double result = doubles.get(path);
-        return result == null ? def : result;
+        final Values current = values;
+        return current.has(cfg.ordinal(), Values.DOUBLE) ? current.doubles[cfg.ordinal()] : def;
     }
 
     /**
-     * Retrieve a string from the value maps.
+     * Retrieve a string from the value arrays.
      *
      * @param cfg the node of the value
-     * @return the string value of the path if the path exists, null otherwise
+     * @return the string value of the path if the path exists, the default value otherwise
      */
     public String getString(final CFG cfg) {
-        return getString(cfg, (String) cfg.getValue());
+        return values.strings[cfg.ordinal()];
     }
 
     /**
-     * Retrieve a string from the value maps.
+     * Retrieve a string from the value arrays.
      *
      * @param cfg the node of the value
-     * @param def a default value to return if the value was not in the map
+     * @param def a default value to return if the value was not in the arrays
      * @return the string value of the path if it exists, def otherwise
      */
     public String getString(final CFG cfg, final String def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
-        return result == null ? def : result;
+        final Values current = values;
+        return current.has(cfg.ordinal(), Values.STRING) ? current.strings[cfg.ordinal()] : def;
     }
 
     public Material getMaterial(final CFG cfg) {
@@ -758,16 +849,118 @@ public class Config {
     }
 
     public Material getMaterial(final CFG cfg, final Material def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
+        final Values current = values;
+        final String result = current.has(cfg.ordinal(), Values.STRING) ? current.strings[cfg.ordinal()] : null;
         if (result == null || "none".equals(result)) {
             return def;
         }
         return Material.valueOf(result);
     }
 
+    /**
+     * Retrieve a list of material names as a set of materials, e.g. a block
+     * whitelist. The set is built once and kept until the config changes,
+     * unknown names are skipped with a warning.
+     *
+     * @param path the path of the list
+     * @return the materials of the list, null if the list is missing or empty
+     */
+    @SuppressWarnings("unchecked")
+    public Set<Material> getMaterialSet(final String path) {
+        final Map<String, Set<?>> sets = typeSets;
+        Set<Material> result = (Set<Material>) sets.get(path);
+        if (result == null) {
+            final List<String> names = getStringList(path, null);
+            if (names.isEmpty()) {
+                result = NO_MATERIALS;
+            } else {
+                result = EnumSet.noneOf(Material.class);
+                for (final String name : names) {
+                    final Material material = Material.getMaterial(name);
+                    if (material == null) {
+                        warnUnknown(path, "material", name);
+                    } else {
+                        result.add(material);
+                    }
+                }
+                result = Collections.unmodifiableSet(result);
+            }
+            sets.put(path, result);
+        }
+        return result == NO_MATERIALS ? null : result;
+    }
+
+    /**
+     * Retrieve a list of entity type names as a set of entity types. The set
+     * is built once and kept until the config changes, unknown names are
+     * skipped with a warning.
+     *
+     * @param cfg the node of the list
+     * @return the entity types of the list
+     */
+    @SuppressWarnings("unchecked")
+    public Set<EntityType> getEntityTypeSet(final CFG cfg) {
+        final Map<String, Set<?>> sets = typeSets;
+        Set<EntityType> result = (Set<EntityType>) sets.get(cfg.getNode());
+        if (result == null) {
+            result = EnumSet.noneOf(EntityType.class);
+            for (final String name : getStringList(cfg.getNode(), null)) {
+                try {
+                    result.add(EntityType.valueOf(name));
+                } catch (final IllegalArgumentException e) {
+                    warnUnknown(cfg.getNode(), "entity type", name);
+                }
+            }
+            result = Collections.unmodifiableSet(result);
+            sets.put(cfg.getNode(), result);
+        }
+        return result;
+    }
+
+    private void warnUnknown(final String path, final String kind, final String name) {
+        final String arenaName = configFile.getName().replace("config_", "").replace(".yml", "");
+        PVPArena.instance.getLogger().warning(String.format("%s: unknown %s '%s' in %s, skipping it",
+                arenaName, kind, name, path));
+    }
+
+    /**
+     * Retrieve a list of items, parsed once and kept until the config changes.
+     *
+     * @param cfg the node of the items
+     * @return copies of the items, free to be modified
+     */
     public ItemStack[] getItems(final CFG cfg) {
+        final ItemStack[] templates = getTemplates(cfg);
+        final ItemStack[] result = new ItemStack[templates.length];
+        for (int i = 0; i < templates.length; i++) {
+            result[i] = templates[i] == null ? null : templates[i].clone();
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve a list of items without copying them, for comparisons only.
+     * The items are shared and must not be modified.
+     *
+     * @param cfg the node of the items
+     * @return a read-only view of the items
+     */
+    public List<ItemStack> getItemTemplates(final CFG cfg) {
+        return Collections.unmodifiableList(Arrays.asList(getTemplates(cfg)));
+    }
+
+    private ItemStack[] getTemplates(final CFG cfg) {
+        final Map<String, ItemStack[]> templates = itemTemplates;
         final String path = cfg.getNode();
+        ItemStack[] result = templates.get(path);
+        if (result == null) {
+            result = parseItems(path);
+            templates.put(path, result);
+        }
+        return result;
+    }
+
+    private ItemStack[] parseItems(final String path) {
         try {
             String test = this.cfg.getString(path);
             if ("none".equalsIgnoreCase(test)) {
@@ -811,34 +1004,25 @@ public class Config {
     // /////////////////////////////////////////////////////////////////////////
 
     /**
-     * Set the value of the given path in both the value maps and the
+     * Set the value of the given path in both the value arrays and the
      * YamlConfiguration. Note that this will only properly put the value in its
-     * relevant value map, if it is of one of the supported types. The method
-     * can also be used to remove values from their maps and the
+     * relevant value array, if it is a CFG node of one of the supported types.
+     * The method can also be used to remove values from their arrays and the
      * YamlConfiguration by passing null for the value.
      *
      * @param path  the path on which to set the value
      * @param value the value to set
      */
-    public void setManually(final String path, final Object value) {
-        if (value instanceof Boolean) {
-            booleans.put(path, (Boolean) value);
-        } else if (value instanceof Integer) {
-            ints.put(path, (Integer) value);
-        } else if (value instanceof Double) {
-            doubles.put(path, (Double) value);
-        } else if (value instanceof String) {
-            strings.put(path, (String) value);
-        }
-
-        if (value == null) {
-            booleans.remove(path);
-            ints.remove(path);
-            doubles.remove(path);
-            strings.remove(path);
+    public synchronized void setManually(final String path, final Object value) {
+        final CFG node = CFG.getByNode(path);
+        if (node != null) {
+            final Values result = new Values(values);
+            result.put(node.ordinal(), value);
+            values = result;
         }
 
         cfg.set(path, value);
+        clearCaches();
     }
 
     public void set(final CFG cfg, final Object value) {
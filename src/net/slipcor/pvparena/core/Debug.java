@@ -13,6 +13,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.logging.Formatter;
 import java.util.logging.*;
 
@@ -30,6 +31,7 @@ import java.util.logging.*;
 public class Debug {
     public static boolean override;
     private static boolean server_log;
+    private static volatile boolean enabled;
 
     private static final String prefix = "[PA-debug] ";
     private static final Set<Integer> check = new HashSet<>();
@@ -141,11 +143,63 @@ public class Debug {
      * @return true if debugs, false otherwise
      */
     private boolean debugs() {
-        return override || active || check.contains(debugID) || check.contains(666);
+        return override || enabled && (active || check.contains(debugID) || check.contains(666));
     }
 
     private boolean debugs(final String term) {
-        return override || active || strings.contains(term) || check.contains(666);
+        return override || enabled && (active || strings.contains(term) || check.contains(666));
+    }
+
+    /**
+     * @return true if messages of this debugger are logged, to skip building expensive messages
+     */
+    public boolean isActive() {
+        return debugs();
+    }
+
+    /**
+     * @param term the player name or filter
+     * @return true if messages about the term are logged, to skip building expensive messages
+     */
+    public boolean isActive(final String term) {
+        return debugs(term);
+    }
+
+    /**
+     * log a message as prefixed INFO, the message is only built if it will be logged
+     *
+     * @param message the message supplier
+     */
+    public void i(final Supplier<String> message) {
+        if (debugs()) {
+            i(message.get());
+        }
+    }
+
+    /**
+     * log a message about a player as prefixed INFO, the message is only built if it will be logged
+     *
+     * @param message the message supplier
+     * @param sender  the player the message is about
+     */
+    public void i(final Supplier<String> message, final CommandSender sender) {
+        if (!enabled && !override || sender != null && !debugs(sender.getName())) {
+            return;
+        }
+        i(message.get(), sender);
+    }
+
+    /**
+     * log a message filtered by a player name, the message is only built if it will be logged
+     *
+     * @param message the message supplier
+     * @param filter  the player name the message is about
+     */
+    public void i(final Supplier<String> message, final String filter) {
+        if (!debugs(filter)) {
+            return;
+        }
+        i(message.get(), filter);
     }
 
     /**
@@ -158,9 +212,9 @@ public class Debug {
             return;
         }
         if (arena == null) {
-            getGlobalLogger().info(prefix + System.currentTimeMillis() % 1000 + ' ' + string);
+            DebugSink.log(getGlobalLogger(), prefix + System.currentTimeMillis() % 1000 + ' ' + string);
         } else {
-            getArenaLogger().info(prefix + System.currentTimeMillis() % 1000 + ' ' + string);
+            DebugSink.log(getArenaLogger(), prefix + System.currentTimeMillis() % 1000 + ' ' + string);
         }
         if (server_log) {
             System.out.print(prefix + System.currentTimeMillis() % 1000 + ' ' + string);
@@ -187,9 +241,9 @@ public class Debug {
             }
         }
         if (arena == null) {
-            getGlobalLogger().info(prefix + "[p:" + sender.getName() + ']' + System.currentTimeMillis() % 1000 + ' ' + string);
+            DebugSink.log(getGlobalLogger(), prefix + "[p:" + sender.getName() + ']' + System.currentTimeMillis() % 1000 + ' ' + string);
         } else {
-            getArenaLogger().info(prefix + "[p:" + sender.getName() + ']' + System.currentTimeMillis() % 1000 + ' ' + string);
+            DebugSink.log(getArenaLogger(), prefix + "[p:" + sender.getName() + ']' + System.currentTimeMillis() % 1000 + ' ' + string);
         }
         if (server_log) {
             System.out.print(prefix + " [" + arena + "] " + "[p:" + sender.getName() + ']' + System.currentTimeMillis() % 1000 + ' ' + string);
@@ -208,7 +262,7 @@ public class Debug {
         }
 
         //Bukkit.getLogger().info(prefix + System.currentTimeMillis()%1000 + " " + string);
-        getGlobalLogger().info(prefix + System.currentTimeMillis() % 1000 + ' ' + string);
+        DebugSink.log(getGlobalLogger(), prefix + System.currentTimeMillis() % 1000 + ' ' + string);
         if (server_log) {
             System.out.print(prefix + System.currentTimeMillis() % 1000 + ' ' + string);
         }
@@ -218,6 +272,7 @@ public class Debug {
         check.clear();
         strings.clear();
         override = false;
+        enabled = false;
         boolean isPlayer = sender instanceof Player;
 
         final String debugs = instance.getConfig().getString("debug");
@@ -227,6 +282,7 @@ public class Debug {
         }
         logger = null;
 
+        DebugSink.stop();
         for (Logger logger : loggers) {
             for (Handler handler : logger.getHandlers()) {
                 handler.close();
@@ -276,14 +332,17 @@ public class Debug {
                     }
                 }
             }
+            enabled = override || !check.isEmpty() || !strings.isEmpty();
         }
     }
 
     private void activate() {
         active = true;
+        enabled = true;
     }
 
     public static void destroy() {
+        DebugSink.stop();
 
         for (final Logger log : Debug.loggers) {
             final Handler[] handlers = log.getHandlers().clone();
@@ -0,0 +1,134 @@
+package net.slipcor.pvparena.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * <pre>
+ * Debug Sink class
+ * </pre>
+ * <p/>
+ * Hands debug lines over to a background thread writing them to the debug log files, so that debugging
+ * does not block the server thread on file I/O. Lines are queued in a fixed size ring buffer without
+ * locking; when the writer falls behind, new lines are dropped and counted instead of using more memory.
+ */
+
+final class DebugSink {
+    private static final int CAPACITY = 8192;
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_NANOS = 50000000L;
+
+    private static final AtomicReferenceArray<Entry> BUFFER = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong HEAD = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final Object DRAIN_LOCK = new Object();
+
+    private static volatile long tail;
+    private static volatile Thread writer;
+
+    private DebugSink() {
+    }
+
+    private static final class Entry {
+        private final Logger logger;
+        private final LogRecord record;
+
+        private Entry(final Logger logger, final LogRecord record) {
+            this.logger = logger;
+            this.record = record;
+        }
+    }
+
+    /**
+     * queue a line, can be called from any thread
+     *
+     * @param logger  the logger writing the file
+     * @param message the line
+     */
+    static void log(final Logger logger, final String message) {
+        long head;
+        do {
+            head = HEAD.get();
+            if (head - tail >= CAPACITY) {
+                DROPPED.incrementAndGet();
+                return;
+            }
+        } while (!HEAD.compareAndSet(head, head + 1));
+
+        BUFFER.set((int) (head & MASK), new Entry(logger, new LogRecord(Level.INFO, message)));
+        if (writer == null) {
+            start();
+        }
+    }
+
+    /**
+     * @return the amount of lines dropped because the buffer was full
+     */
+    static long getDropped() {
+        return DROPPED.get();
+    }
+
+    private static synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (writer == Thread.currentThread()) {
+                    if (!drain()) {
+                        LockSupport.parkNanos(IDLE_NANOS);
+                    }
+                }
+            }
+        }, "PVPArena debug writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * write all queued lines on the calling thread and stop the background thread,
+     * e.g. before the log files are closed
+     */
+    static void stop() {
+        synchronized (DebugSink.class) {
+            writer = null;
+        }
+        drain();
+    }
+
+    /**
+     * write the queued lines
+     *
+     * @return true if anything has been written
+     */
+    private static boolean drain() {
+        synchronized (DRAIN_LOCK) {
+            boolean written = false;
+            long position = tail;
+            while (position < HEAD.get()) {
+                final int index = (int) (position & MASK);
+                final Entry entry = BUFFER.get(index);
+                if (entry == null) {
+                    break; // claimed, but not yet filled
+                }
+                BUFFER.set(index, null);
+                position++;
+                tail = position;
+
+                final long dropped = DROPPED.getAndSet(0);
+                if (dropped > 0) {
+                    entry.logger.log(new LogRecord(Level.WARNING, "[PA-debug] dropped " + dropped + " debug lines"));
+                }
+                entry.logger.log(entry.record);
+                written = true;
+            }
+            return written;
+        }
+    }
+}
@@ -296,6 +296,14 @@ public final class Help {
                 LINE,
                 "/pa {arenaname} template load {filename}",
                 "/pa {arenaname} template save {filename}"}),
+        TIMINGS("nulang.help.msg.timings", new String[]{
+                "Show the scheduled arena tasks and their timings",
+                LINE,
+                "shorthand command: !ti",
+                LINE,
+                "/pa timings {arenaname}",
+                "/pa timings load",
+                "/pa timings reset"}),
         UNINSTALL("nulang.help.msg.uninstall", new String[]{
                 "Uninstall a PVP Arena module",
                 LINE,
@@ -9,6 +9,9 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * <pre>
@@ -203,6 +206,7 @@ public final class Language {
         ERROR_NOPERM_C_TEAMS("nulang.nopermto.cmds.teams", "use the teams command"),
         ERROR_NOPERM_C_TELEPORT("nulang.nopermto.cmds.teleport", "use the teleport command"),
         ERROR_NOPERM_C_TEMPLATE("nulang.nopermto.cmds.template", "use the template command"),
+        ERROR_NOPERM_C_TIMINGS("nulang.nopermto.cmds.timings", "use the timings command"),
         ERROR_NOPERM_C_TOGGLEMOD("nulang.nopermto.cmds.togglemod", "use the togglemod command"),
         ERROR_NOPERM_C_MODULES("nulang.nopermto.cmds.uninstall", "use the modules command"),
         ERROR_NOPERM_C_WHITELIST("nulang.nopermto.cmds.whitelist", "use the whitelist command"),
@@ -702,6 +706,7 @@ public final class Language {
 
         private final String node;
         private String value;
+        private volatile MessageTemplate template;
 
         public static MSG getByNode(final String node) {
             for (final MSG m : MSG.values()) {
@@ -723,6 +728,19 @@ public final class Language {
 
         public void setValue(final String sValue) {
             value = sValue;
+            template = null;
+        }
+
+        /**
+         * @return the compiled text, compiled on first use after it has been set
+         */
+        public MessageTemplate getTemplate() {
+            MessageTemplate result = template;
+            if (result == null) {
+                result = MessageTemplate.compile(value);
+                template = result;
+            }
+            return result;
         }
 
         @Override
@@ -805,6 +823,34 @@ public final class Language {
         }
     }
 
+    /**
+     * compile the texts an arena language file overrides
+     *
+     * @param language the arena language file
+     * @return the compiled texts by node, only containing the overridden ones
+     */
+    public static Map<MSG, MessageTemplate> compileOverrides(final YamlConfiguration language) {
+        final Map<MSG, MessageTemplate> result = new EnumMap<>(MSG.class);
+        for (final MSG m : MSG.values()) {
+            final Object value = language.get(m.getNode());
+            if (value != null) {
+                // numbers and booleans are texts as well, like getString() reads them
+                result.put(m, MessageTemplate.compile(String.valueOf(value)));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static MessageTemplate getTemplate(final Arena arena, final MSG message) {
+        if (arena != null) {
+            final MessageTemplate override = arena.getMessageOverrides().get(message);
+            if (override != null) {
+                return override;
+            }
+        }
+        return message.getTemplate();
+    }
+
     /**
      * read a node from the config and log its value
      *
@@ -875,11 +921,10 @@ public final class Language {
      * @return the node string
      */
     public static String parse(final Arena arena, final MSG message) {
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
+        if (arena != null && arena.getMessageOverrides().containsKey(message)) {
             arena.getDebugger().i("MSG: " + message.name());
-            return StringParser.colorize((String) arena.getLanguage().get(message.getNode()));
         }
-        return StringParser.colorize(message.toString());
+        return getTemplate(arena, message).render();
     }
 
     /**
@@ -893,16 +938,7 @@ public final class Language {
         if (arena != null) {
             arena.getDebugger().i("MSG: " + message.name());
         }
-
-        String result = message.toString();
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
-            result = (String) arena.getLanguage().get(message.getNode());
-        }
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
-        }
-        return StringParser.colorize(result);
+        return getTemplate(arena, message).render(args);
     }
 
     /**
@@ -913,7 +949,7 @@ public final class Language {
      */
     public static String parse(final MSG message) {
         debugger.i("MSG: " + message.name());
-        return StringParser.colorize(message.toString());
+        return message.getTemplate().render();
     }
 
     /**
@@ -925,11 +961,6 @@ public final class Language {
      */
     public static String parse(final MSG message, final String... args) {
         debugger.i("MSG: " + message.name());
-        String result = message.toString();
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
-        }
-        return StringParser.colorize(result);
+        return message.getTemplate().render(args);
     }
 }
@@ -0,0 +1,112 @@
+package net.slipcor.pvparena.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * Message Template class
+ * </pre>
+ * <p/>
+ * A language text, colorized once and split at its %1%, %2%, ... placeholders,
+ * so that rendering it only has to join the parts and the arguments. The last
+ * rendering is kept, so sending the same message to many players renders it once.
+ */
+
+public final class MessageTemplate {
+    private final String[] literals;
+    private final int[] slots;
+    private final int length;
+    private volatile Rendered last;
+
+    private static final class Rendered {
+        private final String[] args;
+        private final String result;
+
+        private Rendered(final String[] args, final String result) {
+            this.args = args;
+            this.result = result;
+        }
+    }
+
+    private MessageTemplate(final String[] literals, final int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * compile a language text
+     *
+     * @param text the raw text, containing '&' color codes and placeholders
+     * @return the compiled template
+     */
+    public static MessageTemplate compile(final String text) {
+        final String colored = StringParser.colorize(text);
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        int start = 0;
+        int pos = colored.indexOf('%');
+        while (pos >= 0) {
+            int end = pos + 1;
+            while (end < colored.length() && Character.isDigit(colored.charAt(end))) {
+                end++;
+            }
+            if (end > pos + 1 && end < colored.length() && colored.charAt(end) == '%'
+                    && colored.charAt(pos + 1) != '0') {
+                literals.add(colored.substring(start, pos));
+                slots.add(Integer.parseInt(colored.substring(pos + 1, end)) - 1);
+                start = end + 1;
+                pos = colored.indexOf('%', start);
+            } else {
+                pos = colored.indexOf('%', pos + 1);
+            }
+        }
+        literals.add(colored.substring(start));
+
+        final int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * fill in the arguments. Arguments are colorized as well, placeholders
+     * without an argument are kept as they are.
+     *
+     * @param args the arguments, the first replacing %1%
+     * @return the finished text
+     */
+    public String render(final String... args) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        final Rendered previous = last;
+        if (previous != null && Arrays.equals(previous.args, args)) {
+            return previous.result;
+        }
+
+        final StringBuilder builder = new StringBuilder(length + 16 * slots.length);
+        builder.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            final int slot = slots[i];
+            if (slot < args.length) {
+                final String arg = String.valueOf(args[slot]);
+                builder.append(arg.indexOf('&') < 0 ? arg : StringParser.colorize(arg));
+            } else {
+                builder.append('%').append(slot + 1).append('%');
+            }
+            builder.append(literals[i + 1]);
+        }
+        final String result = builder.toString();
+        last = new Rendered(args.clone(), result);
+        return result;
+    }
+}
@@ -150,7 +150,7 @@ public class GoalBlockDestroy extends ArenaGoal implements Listener {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -163,7 +163,7 @@ public class GoalBlockDestroy extends ArenaGoal implements Listener {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_TEAM_FULL));
+                res.setError(this, arena, MSG.ERROR_JOIN_TEAM_FULL);
                 return res;
             }
         }
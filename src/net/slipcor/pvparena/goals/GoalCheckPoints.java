@@ -19,12 +19,12 @@ import net.slipcor.pvparena.events.PAGoalEvent;
 import net.slipcor.pvparena.loadables.ArenaGoal;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.runnables.ArenaTask;
 import net.slipcor.pvparena.runnables.EndRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -99,7 +99,7 @@ public class GoalCheckPoints extends ArenaGoal {
         final int maxPlayers = this.arena.getArenaConfig().getInt(CFG.READY_MAXPLAYERS);
 
         if (maxPlayers > 0 && this.arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, this.arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -359,7 +359,7 @@ public class GoalCheckPoints extends ArenaGoal {
 
         final CheckPointsMainRunnable cpMainRunner = new CheckPointsMainRunnable(this.arena, this);
         final int tickInterval = this.arena.getArenaConfig().getInt(CFG.GOAL_CHECKPOINTS_TICKINTERVAL);
-        cpMainRunner.runTaskTimer(PVPArena.instance, tickInterval, tickInterval);
+        cpMainRunner.runTaskTimerSpread(this.arena, tickInterval, tickInterval);
     }
 
     private void reduceLivesCheckEndAndCommit(final Arena arena, final String player) {
@@ -396,7 +396,7 @@ public class GoalCheckPoints extends ArenaGoal {
         return scores;
     }
 
-    private class CheckPointsMainRunnable extends BukkitRunnable {
+    private class CheckPointsMainRunnable extends ArenaTask {
         private final Arena arena;
         //private final Debug debug = new Debug(39);
         private final GoalCheckPoints goal;
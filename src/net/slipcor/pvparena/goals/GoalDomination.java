@@ -17,6 +17,7 @@ import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.PermissionManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.TeamManager;
+import net.slipcor.pvparena.runnables.ArenaTask;
 import net.slipcor.pvparena.runnables.CircleParticleRunnable;
 import net.slipcor.pvparena.runnables.EndRunnable;
 import org.bukkit.*;
@@ -24,8 +25,6 @@ import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
@@ -42,7 +41,7 @@ public class GoalDomination extends ArenaGoal {
     private static final int PRIORITY = 8;
     private static final int INTERVAL = 200;
 
-    private BukkitTask circleTask = null;
+    private ArenaTask circleTask = null;
 
     public GoalDomination() {
         super("Domination");
@@ -150,7 +149,7 @@ public class GoalDomination extends ArenaGoal {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && this.arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, this.arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -163,7 +162,7 @@ public class GoalDomination extends ArenaGoal {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
@@ -286,7 +285,7 @@ public class GoalDomination extends ArenaGoal {
                                     this.arena, false, loc,
                                     this.getFlagMap().get(loc), this);
 
-                            domRunner.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                            domRunner.runTaskTimer(this.arena, INTERVAL, INTERVAL);
 
                             this.getRunnerMap().put(loc, domRunner);
                             this.barStart(loc, contestingMsg, ChatColor.WHITE, checkDistance);
@@ -337,7 +336,7 @@ public class GoalDomination extends ArenaGoal {
                 final DominationRunnable running = new DominationRunnable(this.arena,
                         false, loc, this.getFlagMap().get(loc), this);
 
-                running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                running.runTaskTimer(this.arena, INTERVAL, INTERVAL);
                 this.getRunnerMap().put(loc, running);
                 this.barStart(loc, unclaimingMsg, ChatColor.WHITE, checkDistance);
             } else {
@@ -386,7 +385,7 @@ public class GoalDomination extends ArenaGoal {
                             final DominationRunnable running = new DominationRunnable(
                                     this.arena, true, loc, sName, this);
 
-                            running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                            running.runTaskTimer(this.arena, INTERVAL, INTERVAL);
                             this.getRunnerMap().put(loc, running);
                             this.barStart(loc, claimingMsg, team.getColor(), checkDistance);
                         }
@@ -680,12 +679,12 @@ public class GoalDomination extends ArenaGoal {
 
         final DominationMainRunnable domMainRunner = new DominationMainRunnable(this.arena, this);
         final int tickInterval = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_TICKINTERVAL);
-        domMainRunner.runTaskTimer(PVPArena.instance, tickInterval, tickInterval);
+        domMainRunner.runTaskTimerSpread(this.arena, tickInterval, tickInterval);
 
         this.announceOffset = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_ANNOUNCEOFFSET);
 
         if(this.arena.getArenaConfig().getBoolean(CFG.GOAL_DOM_PARTICLECIRCLE)) {
-            this.circleTask = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap()), 1L, 1L);
+            this.circleTask = new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap()).runTaskTimer(this.arena, 1L, 1L);
         }
     }
 
@@ -712,6 +711,9 @@ public class GoalDomination extends ArenaGoal {
     public void reset(final boolean force) {
         this.getBarMap().clear();
         this.getLifeMap().clear();
+        for (final DominationRunnable runner : this.getRunnerMap().values()) {
+            runner.cancel();
+        }
         this.getRunnerMap().clear();
         this.getFlagMap().clear();
         if (this.circleTask != null) {
@@ -760,7 +762,7 @@ public class GoalDomination extends ArenaGoal {
         return scores;
     }
 
-    private static class DominationRunnable extends BukkitRunnable {
+    private static class DominationRunnable extends ArenaTask {
         private final boolean taken;
         private final Location loc;
         private final Arena arena;
@@ -838,7 +840,7 @@ public class GoalDomination extends ArenaGoal {
         }
     }
 
-    private static class DominationMainRunnable extends BukkitRunnable {
+    private static class DominationMainRunnable extends ArenaTask {
         private final Arena arena;
         private final GoalDomination domination;
 
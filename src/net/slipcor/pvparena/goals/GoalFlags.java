@@ -395,7 +395,7 @@ public class GoalFlags extends ArenaGoal implements Listener {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && this.arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, this.arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -408,7 +408,7 @@ public class GoalFlags extends ArenaGoal implements Listener {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
@@ -152,7 +152,7 @@ public class GoalFood extends ArenaGoal implements Listener {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -165,7 +165,7 @@ public class GoalFood extends ArenaGoal implements Listener {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
@@ -94,7 +94,7 @@ public class GoalPlayerDeathMatch extends ArenaGoal {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -107,7 +107,7 @@ public class GoalPlayerDeathMatch extends ArenaGoal {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
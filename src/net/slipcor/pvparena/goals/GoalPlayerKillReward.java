@@ -142,7 +142,7 @@ public class GoalPlayerKillReward extends ArenaGoal {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && this.arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, this.arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -155,7 +155,7 @@ public class GoalPlayerKillReward extends ArenaGoal {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, this.arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
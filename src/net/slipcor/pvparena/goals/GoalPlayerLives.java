@@ -106,7 +106,7 @@ public class GoalPlayerLives extends ArenaGoal {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -119,7 +119,7 @@ public class GoalPlayerLives extends ArenaGoal {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
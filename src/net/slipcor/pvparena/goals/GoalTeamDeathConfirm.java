@@ -94,7 +94,7 @@ public class GoalTeamDeathConfirm extends ArenaGoal {
                 CFG.READY_MAXTEAMPLAYERS);
 
         if (maxPlayers > 0 && arena.getFighters().size() >= maxPlayers) {
-            res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_ARENA_FULL));
+            res.setError(this, arena, MSG.ERROR_JOIN_ARENA_FULL);
             return res;
         }
 
@@ -107,7 +107,7 @@ public class GoalTeamDeathConfirm extends ArenaGoal {
 
             if (team != null && maxTeamPlayers > 0
                     && team.getTeamMembers().size() >= maxTeamPlayers) {
-                res.setError(this, Language.parse(arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName()));
+                res.setError(this, arena, MSG.ERROR_JOIN_TEAM_FULL, team.getName());
                 return res;
             }
         }
@@ -264,7 +264,7 @@ public class GoalTeamDeathConfirm extends ArenaGoal {
     public void onPlayerPickUp(final EntityPickupItemEvent event) {
         final ItemStack item = event.getItem().getItemStack();
 
-        final ItemStack check = arena.getArenaConfig().getItems(CFG.GOAL_TDC_ITEM)[0];
+        final ItemStack check = arena.getArenaConfig().getItemTemplates(CFG.GOAL_TDC_ITEM).get(0);
 
         final ArenaPlayer player = ArenaPlayer.parsePlayer(event.getEntity().getName());
 
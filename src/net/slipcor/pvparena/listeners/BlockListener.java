@@ -34,8 +34,7 @@ import org.bukkit.event.hanging.HangingPlaceEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.world.StructureGrowEvent;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 
@@ -89,7 +88,7 @@ public class BlockListener implements Listener {
         if (event instanceof PlayerEvent) {
             final PlayerEvent e = (PlayerEvent) event;
 
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(e.getPlayer().getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(e.getPlayer());
 
             if (aPlayer.getArena() != null && aPlayer.getArena() != arena) {
                 return false; // players in arenas should be caught by their arenas
@@ -111,10 +110,11 @@ public class BlockListener implements Listener {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOST
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.WATCH
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOUNGE
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.READY) {
+        final Status status = ArenaPlayer.fromPlayer(event.getPlayer()).getStatus();
+        if (status == Status.LOST
+                || status == Status.WATCH
+                || status == Status.LOUNGE
+                || status == Status.READY) {
             event.setCancelled(true);
             return;
         }
@@ -123,15 +123,11 @@ public class BlockListener implements Listener {
                 .getArenaByRegionLocation(new PABlockLocation(event.getBlock()
                         .getLocation()));
 
-        final List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".break",
-                new ArrayList<String>());
+        final Material type = event.getBlock().getType();
+        Set<Material> list = arena.getArenaConfig().getMaterialSet(
+                CFG.LISTS_WHITELIST.getNode() + ".break");
 
-        if (!list.isEmpty()
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))) {
+        if (list != null && !list.contains(type)) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED,
@@ -147,13 +143,10 @@ public class BlockListener implements Listener {
             DEBUG.i("isprotected!", event.getPlayer());
             return;
         }
-        list.clear();
-        list.addAll(arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".break",
-                new ArrayList<String>()));
+        list = arena.getArenaConfig().getMaterialSet(
+                CFG.LISTS_BLACKLIST.getNode() + ".break");
 
-        if (list.contains(String.valueOf(event.getBlock().getType().name()))
-                || list.contains(String.valueOf(event.getBlock().getType().name()))) {
+        if (list != null && list.contains(type)) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED,
@@ -407,7 +400,7 @@ public class BlockListener implements Listener {
             return;
         }
 
-        final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer arenaPlayer = ArenaPlayer.fromPlayer(player);
         if (asList(Status.LOST, Status.WATCH, Status.LOUNGE, Status.READY).contains(arenaPlayer.getStatus())) {
             event.setCancelled(true);
             return;
@@ -424,11 +417,10 @@ public class BlockListener implements Listener {
         }
 
 
-        List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".place",
-                new ArrayList<>());
+        Set<Material> list = arena.getArenaConfig().getMaterialSet(
+                CFG.LISTS_WHITELIST.getNode() + ".place");
 
-        if (!list.isEmpty() && !list.contains(placedBlock.getType().name())) {
+        if (list != null && !list.contains(placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("not on whitelist. DENY!");
@@ -452,11 +444,10 @@ public class BlockListener implements Listener {
             return;
         }
 
-        list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".place",
-                new ArrayList<>());
+        list = arena.getArenaConfig().getMaterialSet(
+                CFG.LISTS_BLACKLIST.getNode() + ".place");
 
-        if (list.contains(placedBlock.getType().name())) {
+        if (list != null && list.contains(placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("on blacklist. DENY!");
@@ -64,7 +64,7 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onCreatureSpawn(final CreatureSpawnEvent event) {
-        DEBUG.i("onCreatureSpawn: " + event.getSpawnReason().name());
+        DEBUG.i(() -> "onCreatureSpawn: " + event.getSpawnReason().name());
         final Set<SpawnReason> naturals = new HashSet<>();
         naturals.add(SpawnReason.CHUNK_GEN);
         naturals.add(SpawnReason.DEFAULT);
@@ -129,19 +129,19 @@ public class EntityListener implements Listener {
         if ((!(entity instanceof Player))) {
             return; // no player
         }
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.fromPlayer(((Player) entity))
                 .getArena();
         if (arena == null) {
             return;
         }
         final Player player = (Player) entity;
         arena.getDebugger().i("onEntityRegainHealth => fighing player", player);
-        arena.getDebugger().i("reason: " + event.getRegainReason());
+        arena.getDebugger().i(() -> "reason: " + event.getRegainReason());
         if (!arena.isFightInProgress()) {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (team == null) {
@@ -162,10 +162,10 @@ public class EntityListener implements Listener {
         Entity eDamager = event.getDamager();
         final Entity eDamagee = event.getEntity();
 
-        DEBUG.i("onEntityDamageByEntity: cause: " + event.getCause().name()
+        DEBUG.i(() -> "onEntityDamageByEntity: cause: " + event.getCause().name()
                 + " : " + event.getDamager().toString() + " => "
                 + event.getEntity().toString());
-        DEBUG.i("damage: " + event.getDamage());
+        DEBUG.i(() -> "damage: " + event.getDamage());
 
         if (eDamager instanceof Projectile) {
             DEBUG.i("parsing projectile");
@@ -177,10 +177,11 @@ public class EntityListener implements Listener {
                 eDamager = (LivingEntity) p;
 
             }
-            DEBUG.i("=> " + eDamager);
+            final Entity shooter = eDamager;
+            DEBUG.i(() -> "=> " + shooter);
         }
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.fromPlayer(((Player) eDamager)).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
@@ -206,7 +207,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) eDamagee).getName())
+        final Arena arena = ArenaPlayer.fromPlayer(((Player) eDamagee))
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
@@ -222,7 +223,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        arena.getDebugger().i("both entities are players", (Player) eDamager);
+        arena.getDebugger().i(() -> "both entities are players", (Player) eDamager);
         final Player attacker = (Player) eDamager;
         final Player defender = (Player) eDamagee;
 
@@ -233,8 +234,8 @@ public class EntityListener implements Listener {
 
         boolean defTeam = false;
         boolean attTeam = false;
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-        final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
+        final ArenaPlayer apDefender = ArenaPlayer.fromPlayer(defender);
+        final ArenaPlayer apAttacker = ArenaPlayer.fromPlayer(attacker);
 
         for (ArenaTeam team : arena.getTeams()) {
             defTeam = defTeam || team.getTeamMembers().contains(
@@ -323,15 +324,15 @@ public class EntityListener implements Listener {
         final Entity eDamagee = event.getHitEntity();
 
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.fromPlayer(((Player) eDamager)).getStatus() == Status.LOST) {
             return;
         }
 
         if(eDamager instanceof Player && eDamagee instanceof Player) {
             final Player attacker = (Player) eDamager;
             final Player defender = (Player) eDamagee;
-            final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-            final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
+            final ArenaPlayer apDefender = ArenaPlayer.fromPlayer(defender);
+            final ArenaPlayer apAttacker = ArenaPlayer.fromPlayer(attacker);
             final Arena arena = apDefender.getArena();
 
             if (arena == null || apAttacker.getArena() == null || apDefender.getStatus() == Status.LOST || !arena.isFightInProgress()) {
@@ -347,19 +348,19 @@ public class EntityListener implements Listener {
     public void onEntityDamage(final EntityDamageEvent event) {
         final Entity entity = event.getEntity();
 
-        DEBUG.i("onEntityDamage: cause: " + event.getCause().name() + " : "
+        DEBUG.i(() -> "onEntityDamage: cause: " + event.getCause().name() + " : "
                 + event.getEntity().toString() + " => " + event.getEntity().getLocation());
 
         if (!(entity instanceof Player)) {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(((Player) entity).getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.fromPlayer(((Player) entity)).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.fromPlayer(((Player) entity))
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
@@ -368,7 +369,7 @@ public class EntityListener implements Listener {
 
         final Player defender = (Player) entity;
 
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
+        final ArenaPlayer apDefender = ArenaPlayer.fromPlayer(defender);
 
         if (arena.realEndRunner != null
                 || (!apDefender.getStatus().equals(Status.NULL) && !apDefender
@@ -392,7 +393,7 @@ public class EntityListener implements Listener {
             if (arena.hasEntity(event.getEntity())) {
 
                 Player player = arena.getEntityOwner(event.getEntity());
-                ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+                ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
 
                 if (event.getEntity().equals(player)) {
                     event.setCancelled(true);
@@ -442,10 +443,11 @@ public class EntityListener implements Listener {
 
         final Collection<PotionEffect> pot = event.getPotion().getEffects();
         for (PotionEffect eff : pot) {
-            DEBUG.i('>' + eff.getType().getName());
+            DEBUG.i(() -> '>' + eff.getType().getName());
             if (TEAMEFFECT.containsKey(eff.getType())) {
                 affectTeam = TEAMEFFECT.get(eff.getType());
-                DEBUG.i(">" + affectTeam);
+                final boolean affects = affectTeam;
+                DEBUG.i(() -> ">" + affects);
                 break;
             }
         }
@@ -459,7 +461,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        DEBUG.i("legit player: " + shooter, shooter.getName());
+        DEBUG.i(() -> "legit player: " + shooter, shooter.getName());
 
         if (shooter.getArena() == null
                 || !shooter.getStatus().equals(Status.FIGHT)) {
@@ -474,10 +476,10 @@ public class EntityListener implements Listener {
         final Collection<LivingEntity> entities = event.getAffectedEntities();
         for (LivingEntity e : entities) {
             if (!(e instanceof Player)) {
-                DEBUG.i("skipping non-player "+e.getName());
+                DEBUG.i(() -> "skipping non-player "+e.getName());
                 continue;
             }
-            final ArenaPlayer damagee = ArenaPlayer.parsePlayer(((Player) e).getName());
+            final ArenaPlayer damagee = ArenaPlayer.fromPlayer(((Player) e));
 
             if (damagee.getArena() == null || shooter.getArena() == null ||
                     (damagee.getArena() != shooter.getArena()) ||
@@ -487,7 +489,7 @@ public class EntityListener implements Listener {
 
                   this check should cover any of the entities not being in the same arena, or not arena at all
                  */
-                DEBUG.i("skipping "+e.getName());
+                DEBUG.i(() -> "skipping "+e.getName());
                 continue;
             }
 
@@ -499,7 +501,7 @@ public class EntityListener implements Listener {
                 // same team and the other team should be affected
                 // ==> cancel!
                 event.setIntensity(e, 0);
-                DEBUG.i("setting intensity to 0 for "+e.getName());
+                DEBUG.i(() -> "setting intensity to 0 for "+e.getName());
                 break;
             }
         }
@@ -24,9 +24,12 @@ import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.DumpManager;
 import net.slipcor.pvparena.managers.InventoryManager;
 import net.slipcor.pvparena.managers.PermissionManager;
+import net.slipcor.pvparena.managers.RegionManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.TeamManager;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -35,6 +38,7 @@ import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
 import org.bukkit.block.Sign;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.*;
@@ -42,6 +46,7 @@ import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.event.player.*;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.plugin.IllegalPluginAccessException;
 
@@ -92,7 +97,7 @@ public class PlayerListener implements Listener {
             return false;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
 
         if ((aPlayer.getStatus() == Status.WATCH || aPlayer.getStatus() == Status.LOST) &&
                 arena.getArenaConfig().getBoolean(CFG.PERMS_SPECINTERACT)) {
@@ -127,7 +132,7 @@ public class PlayerListener implements Listener {
                 return false;
             }
         }
-        if (ArenaPlayer.parsePlayer(player.getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.fromPlayer(player).getStatus() == Status.LOST) {
             DEBUG.i("cancelling because LOST", player);
             event.setCancelled(true);
             return true;
@@ -145,8 +150,8 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
 
         if (arena == null) {
             return; // no fighting player => OUT
@@ -211,7 +216,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null || player.isOp() || PermissionManager.hasAdminPerm(player)
                 || PermissionManager.hasBuilderPerm(player, arena)) {
             return; // no fighting player => OUT
@@ -267,7 +272,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getWhoClicked();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null || player.isOp() || PermissionManager.hasAdminPerm(player)
                 || PermissionManager.hasBuilderPerm(player, arena)) {
             return; // no fighting player => OUT
@@ -297,7 +302,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
         final Arena arena = aPlayer.getArena();
         if (arena == null) {
             return; // no fighting player => OUT
@@ -357,7 +362,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.LOW)
     public void onPlayerDeath(final PlayerDeathEvent event) {
         final Player player = event.getEntity();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null) {
             return;
         }
@@ -381,7 +386,7 @@ public class PlayerListener implements Listener {
             cause = (EntityDamageEvent) eEvent;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         final String playerName = (team == null) ? player.getName() : team.colorizePlayer(player);
@@ -444,7 +449,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getEntity();
 
-        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer ap = ArenaPlayer.fromPlayer(player);
 
         if (ap.getStatus() == Status.READY || ap.getStatus() == Status.LOUNGE || ap.getArena() != null && !ap.getArena().getArenaConfig().getBoolean(CFG.PLAYER_HUNGER)) {
             event.setCancelled(true);
@@ -500,7 +505,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null) {
             DEBUG.i("returning: #4", player);
             ArenaManager.trySignJoin(event, player);
@@ -516,7 +521,7 @@ public class PlayerListener implements Listener {
         final boolean whyMe = arena.isFightInProgress()
                 && !PVPArena.instance.getAgm().allowsJoinInBattle(arena);
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (aPlayer.getStatus() == Status.WATCH &&
@@ -678,7 +683,7 @@ public class PlayerListener implements Listener {
                     }
                 }
 
-                ArenaPlayer.parsePlayer(player.getName()).setStatus(
+                ArenaPlayer.fromPlayer(player).setStatus(
                         Status.FIGHT);
 
                 ArenaModuleManager.lateJoin(arena, player);
@@ -729,12 +734,22 @@ public class PlayerListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onPlayerItemConsume(final PlayerItemConsumeEvent event) {
-        ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(event.getPlayer().getName());
+        ArenaPlayer arenaPlayer = ArenaPlayer.fromPlayer(event.getPlayer());
         if (arenaPlayer.getArena() != null && arenaPlayer.getStatus() != Status.FIGHT) {
             event.setCancelled(true);
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerPreLogin(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        // read the dump and the stats now, so joining only has to apply them
+        DumpManager.prefetch(event.getName());
+        StatisticsManager.prefetch(event.getUniqueId(), event.getName());
+    }
+
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     public void onPlayerJoin(final PlayerJoinEvent event) {
         final Player player = event.getPlayer();
@@ -743,7 +758,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.registerPlayer(player);
 
         aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
@@ -757,6 +772,8 @@ public class PlayerListener implements Listener {
             arena.playerLeave(player, CFG.TP_EXIT, true, true, false);
         }
 
+        RegionManager.update(player, player.getLocation());
+
         DEBUG.i("OP joins the game", player);
         if (player.isOp() && PVPArena.instance.getUpdateChecker() != null) {
             PVPArena.instance.getUpdateChecker().displayMessage(player);
@@ -766,7 +783,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerKicked(final PlayerKickEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player => OUT
         }
@@ -776,7 +793,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerRespawn(final PlayerRespawnEvent event) {
         final Player player = event.getPlayer();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
         // aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
         // players and makes sure every player is an arenaplayer ^^
@@ -807,7 +824,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
 
         if (arena != null) {
 
@@ -827,20 +844,52 @@ public class PlayerListener implements Listener {
         ArenaModuleManager.onPlayerPickupItem(arena, event);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        if (event.getTo() == null || !RegionManager.isBlockChange(event.getFrom(), event.getTo())) {
+            return; // only looking around => OUT
+        }
+        RegionManager.update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(final VehicleMoveEvent event) {
+        if (!RegionManager.isBlockChange(event.getFrom(), event.getTo())) {
+            return;
+        }
+        // no PlayerMoveEvent is fired for riding players
+        for (final Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player) {
+                RegionManager.update((Player) passenger, passenger.getLocation());
+            }
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerQuit(final PlayerQuitEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
-        if (arena == null) {
-            return; // no fighting player => OUT
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
+        if (arena != null) {
+            arena.playerLeave(player, CFG.TP_EXIT, false, true, false);
         }
-        arena.playerLeave(player, CFG.TP_EXIT, false, true, false);
+        RegionManager.remove(player);
+        ArenaPlayer.unregisterPlayer(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawnMonitor(final PlayerRespawnEvent event) {
+        RegionManager.update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleportMonitor(final PlayerTeleportEvent event) {
+        RegionManager.update(event.getPlayer(), event.getTo());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlayerTeleport(final PlayerTeleportEvent event) {
         final Player player = event.getPlayer();
-        Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        Arena arena = ArenaPlayer.fromPlayer(player).getArena();
 
         if (arena == null) {
             if (event.getTo() == null) {
@@ -878,16 +927,16 @@ public class PlayerListener implements Listener {
             return; // ignore spectators
         }
 
-        arena.getDebugger().i("aimed location: " + event.getTo(), player);
+        arena.getDebugger().i(() -> "aimed location: " + event.getTo(), player);
 
 
-        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.parsePlayer(player.getName()).getStatus() != Status.FIGHT) {
+        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.fromPlayer(player).getStatus() != Status.FIGHT) {
             arena.getDebugger().i("onPlayerTeleport: ender pearl when not fighting, cancelling!", player);
             event.setCancelled(true); // cancel and out
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(player.getName()).isTelePass()
+        if (ArenaPlayer.fromPlayer(player).isTelePass()
                 || player.hasPermission("pvparena.telepass")) {
 
             maybeFixInvisibility(arena, player);
@@ -949,7 +998,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final PlayerVelocityEvent event) {
         final Player player = event.getPlayer();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.fromPlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player or no powerups => OUT
         }
@@ -960,7 +1009,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final ProjectileLaunchEvent event) {
         if (event.getEntity().getShooter() instanceof Player) {
             final Player player = (Player) event.getEntity().getShooter();
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.fromPlayer(player);
             final Arena arena = aPlayer.getArena();
             if (arena == null) {
                 return; // no fighting player => OUT
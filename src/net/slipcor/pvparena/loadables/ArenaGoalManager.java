@@ -6,6 +6,7 @@ import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.classes.PACheck;
+import net.slipcor.pvparena.classes.PAHookTable;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
@@ -40,6 +41,37 @@ public class ArenaGoalManager {
     private final NCBLoader<ArenaGoal> loader;
     private static final Debug DEBUG = new Debug(31);
 
+    /**
+     * The goal methods called on frequent events, only called on the goals overriding them
+     */
+    public enum GoalHook implements PAHookTable.Hook {
+        CHECK_BREAK("checkBreak", PACheck.class, Arena.class, BlockBreakEvent.class),
+        CHECK_CRAFT("checkCraft", PACheck.class, Arena.class, CraftItemEvent.class),
+        CHECK_DROP("checkDrop", PACheck.class, Arena.class, PlayerDropItemEvent.class),
+        CHECK_INVENTORY("checkInventory", PACheck.class, Arena.class, InventoryClickEvent.class),
+        CHECK_PICKUP("checkPickup", PACheck.class, Arena.class, EntityPickupItemEvent.class),
+        CHECK_PLACE("checkPlace", PACheck.class, Arena.class, BlockPlaceEvent.class),
+        ON_PLAYER_PICKUP("onPlayerPickUp", EntityPickupItemEvent.class);
+
+        private final String method;
+        private final Class<?>[] parameters;
+
+        GoalHook(final String method, final Class<?>... parameters) {
+            this.method = method;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String getMethodName() {
+            return method;
+        }
+
+        @Override
+        public Class<?>[] getParameterTypes() {
+            return parameters.clone();
+        }
+    }
+
     /**
      * create an arena type instance
      *
@@ -102,53 +134,101 @@ public class ArenaGoalManager {
     }
 
     public static PACheck checkBreak(Arena arena, BlockBreakEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
-            result = type.checkBreak(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_BREAK)) {
+                result = type.checkBreak(result, arena, event);
+                if (result.hasError()) {
+                    break; // the event is cancelled, no need to ask the others
+                }
+            }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public static PACheck checkCraft(Arena arena, CraftItemEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
-            result = type.checkCraft(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_CRAFT)) {
+                result = type.checkCraft(result, arena, event);
+                if (result.hasError()) {
+                    break; // the event is cancelled, no need to ask the others
+                }
+            }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public static PACheck checkDrop(Arena arena, PlayerDropItemEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
-            result = type.checkDrop(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_DROP)) {
+                result = type.checkDrop(result, arena, event);
+                if (result.hasError()) {
+                    break; // the event is cancelled, no need to ask the others
+                }
+            }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public static PACheck checkInventory(Arena arena, InventoryClickEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
-            result = type.checkInventory(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_INVENTORY)) {
+                result = type.checkInventory(result, arena, event);
+                if (result.hasError()) {
+                    break; // the event is cancelled, no need to ask the others
+                }
+            }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public static PACheck checkPickup(Arena arena, EntityPickupItemEvent event) {
-        PACheck result = new PACheck();
-        if (event.getEntity() instanceof Player) {
-            for (final ArenaGoal type : arena.getGoals()) {
-                result = type.checkPickup(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            if (event.getEntity() instanceof Player) {
+                for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_PICKUP)) {
+                    result = type.checkPickup(result, arena, event);
+                    if (result.hasError()) {
+                        break;
+                    }
+                }
             }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public static PACheck checkPlace(Arena arena, BlockPlaceEvent event) {
-        PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
-            result = type.checkPlace(result, arena, event);
+        final PACheck pooled = PACheck.obtain();
+        PACheck result = pooled;
+        try {
+            for (final ArenaGoal type : arena.getGoalHooks().get(GoalHook.CHECK_PLACE)) {
+                result = type.checkPlace(result, arena, event);
+                if (result.hasError()) {
+                    break; // the event is cancelled, no need to ask the others
+                }
+            }
+            return result.detach();
+        } finally {
+            pooled.release();
         }
-        return result;
     }
 
     public void configParse(final Arena arena, final YamlConfiguration config) {
@@ -508,7 +588,7 @@ public class ArenaGoalManager {
 
     public static void onPlayerPickUp(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            for (final ArenaGoal goal : arena.getGoals()) {
+            for (final ArenaGoal goal : arena.getGoalHooks().get(GoalHook.ON_PLAYER_PICKUP)) {
                 goal.onPlayerPickUp(event);
             }
         }
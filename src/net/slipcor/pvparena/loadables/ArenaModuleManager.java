@@ -4,6 +4,7 @@ import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaClass;
 import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.classes.PAHookTable;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.modules.*;
 import net.slipcor.pvparena.ncloader.NCBLoader;
@@ -38,6 +39,42 @@ public class ArenaModuleManager {
     private final NCBLoader<ArenaModule> loader;
     private static final Debug DEBUG = new Debug(33);
 
+    /**
+     * The module methods called on frequent events, only called on the modules overriding them
+     */
+    public enum ModuleHook implements PAHookTable.Hook {
+        ON_BLOCK_BREAK("onBlockBreak", Block.class),
+        ON_BLOCK_CHANGE("onBlockChange", Block.class, BlockState.class),
+        ON_BLOCK_PISTON("onBlockPiston", Block.class),
+        ON_BLOCK_PLACE("onBlockPlace", Block.class, Material.class),
+        ON_ENTITY_DAMAGE_BY_ENTITY("onEntityDamageByEntity", Player.class, Player.class, EntityDamageByEntityEvent.class),
+        ON_PROJECTILE_HIT("onProjectileHit", Player.class, Player.class, ProjectileHitEvent.class),
+        ON_ENTITY_EXPLODE("onEntityExplode", EntityExplodeEvent.class),
+        ON_ENTITY_REGAIN_HEALTH("onEntityRegainHealth", EntityRegainHealthEvent.class),
+        ON_PAINTING_BREAK("onPaintingBreak", Hanging.class, EntityType.class),
+        ON_PLAYER_INTERACT("onPlayerInteract", PlayerInteractEvent.class),
+        ON_PLAYER_PICKUP_ITEM("onPlayerPickupItem", EntityPickupItemEvent.class),
+        ON_PLAYER_VELOCITY("onPlayerVelocity", PlayerVelocityEvent.class);
+
+        private final String method;
+        private final Class<?>[] parameters;
+
+        ModuleHook(final String method, final Class<?>... parameters) {
+            this.method = method;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String getMethodName() {
+            return method;
+        }
+
+        @Override
+        public Class<?>[] getParameterTypes() {
+            return parameters.clone();
+        }
+    }
+
     /**
      * create an arena module manager instance
      *
@@ -143,62 +180,62 @@ public class ArenaModuleManager {
     }
 
     public static void onBlockBreak(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_BLOCK_BREAK)) {
             mod.onBlockBreak(block);
         }
     }
 
     public static void onBlockChange(final Arena arena, final Block block, final BlockState state) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_BLOCK_CHANGE)) {
             mod.onBlockChange(block, state);
         }
     }
 
     public static void onBlockPiston(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_BLOCK_PISTON)) {
             mod.onBlockPiston(block);
         }
     }
 
     public static void onBlockPlace(final Arena arena, final Block block, final Material mat) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_BLOCK_PLACE)) {
             mod.onBlockPlace(block, mat);
         }
     }
 
     public static void onEntityDamageByEntity(final Arena arena, final Player attacker,
                                               final Player defender, final EntityDamageByEntityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_ENTITY_DAMAGE_BY_ENTITY)) {
             mod.onEntityDamageByEntity(attacker, defender, event);
         }
     }
 
     public static void onProjectileHit(final Arena arena, final Player attacker, final Player defender, final ProjectileHitEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_PROJECTILE_HIT)) {
             mod.onProjectileHit(attacker, defender, event);
         }
     }
 
     public static void onEntityExplode(final Arena arena, final EntityExplodeEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_ENTITY_EXPLODE)) {
             mod.onEntityExplode(event);
         }
     }
 
     public static void onEntityRegainHealth(final Arena arena, final EntityRegainHealthEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_ENTITY_REGAIN_HEALTH)) {
             mod.onEntityRegainHealth(event);
         }
     }
 
     public static void onPaintingBreak(final Arena arena, final Hanging painting, final EntityType type) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_PAINTING_BREAK)) {
             mod.onPaintingBreak(painting, type);
         }
     }
 
     public static boolean onPlayerInteract(final Arena arena, final PlayerInteractEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_PLAYER_INTERACT)) {
             if (mod.onPlayerInteract(event)) {
                 return true;
             }
@@ -208,14 +245,14 @@ public class ArenaModuleManager {
 
     public static void onPlayerPickupItem(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            for (final ArenaModule mod : arena.getMods()) {
+            for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_PLAYER_PICKUP_ITEM)) {
                 mod.onPlayerPickupItem(event);
             }
         }
     }
 
     public static void onPlayerVelocity(final Arena arena, final PlayerVelocityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getModHooks().get(ModuleHook.ON_PLAYER_VELOCITY)) {
             mod.onPlayerVelocity(event);
         }
     }
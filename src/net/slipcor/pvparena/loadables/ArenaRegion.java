@@ -16,6 +16,7 @@ import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.listeners.PlayerListener;
 import net.slipcor.pvparena.managers.ArenaManager;
 import net.slipcor.pvparena.managers.PermissionManager;
+import net.slipcor.pvparena.managers.RegionManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.runnables.RegionRunnable;
 import org.bukkit.Bukkit;
@@ -24,13 +25,13 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Hanging;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
@@ -43,7 +44,8 @@ public class ArenaRegion {
     private Arena arena;
     private String name;
     private RegionType type;
-    private BukkitTask runningTask;
+    private RegionRunnable runningTask;
+    private boolean active;
     private final Set<RegionFlag> flags = new HashSet<>();
     private final Set<RegionProtection> protections = new HashSet<>();
     private final Map<String, Location> playerLocations = new HashMap<>();
@@ -263,8 +265,8 @@ public class ArenaRegion {
         this.shape = shape.clone();
         type = RegionType.CUSTOM;
         world = locs[0].getWorldName();
-        arena.addRegion(this);
         this.shape.initialize(this);
+        arena.addRegion(this);
     }
 
     /**
@@ -318,6 +320,7 @@ public class ArenaRegion {
                 this.protections.add(rp);
             }
         }
+        ArenaManager.updateRegionIndex(this);
     }
 
     public void flagAdd(final RegionFlag regionFlag) {
@@ -369,17 +372,26 @@ public class ArenaRegion {
         return world;
     }
 
+    /**
+     * activate the region checks. Players entering and leaving are handled by the RegionManager,
+     * only NOCAMP regions need a timer to check for players not moving.
+     */
     public void initTimer() {
+        this.active = true;
 
         if (this.runningTask != null && !this.runningTask.isCancelled()) {
-            if (!asList(RegionType.JOIN, RegionType.WATCH, RegionType.LOUNGE).contains(this.type)) {
-                this.runningTask.cancel();
-            }
+            this.runningTask.cancel();
+        }
+        this.runningTask = null;
+
+        if (this.flags.contains(RegionFlag.NOCAMP)) {
+            final int timer = this.arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER);
+            this.runningTask = new RegionRunnable(this);
+            this.runningTask.runTaskTimerSpread(this.arena, timer, timer);
         }
 
-        final RegionRunnable regionRunner = new RegionRunnable(this);
-        final int timer = this.arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER);
-        this.runningTask = regionRunner.runTaskTimer(PVPArena.instance, timer, timer);
+        // players already inside or outside do not cross the border, check them once
+        Bukkit.getScheduler().runTask(PVPArena.instance, this::checkAll);
     }
 
     public boolean isInNoWoolSet(final Block block) {
@@ -400,6 +412,7 @@ public class ArenaRegion {
             return;
         }
         protections.add(regionProtection);
+        ArenaManager.updateRegionIndex(this);
     }
 
     public boolean protectionSetAll(final Boolean value) {
@@ -430,6 +443,7 @@ public class ArenaRegion {
         } else {
             protections.add(regionProtection);
         }
+        ArenaManager.updateRegionIndex(this);
         return protections.contains(regionProtection);
     }
 
@@ -439,6 +453,7 @@ public class ArenaRegion {
             return;
         }
         protections.remove(regionProtection);
+        ArenaManager.updateRegionIndex(this);
     }
 
     public void reset() {
@@ -450,6 +465,8 @@ public class ArenaRegion {
             return;
         }
 
+        final Set<EntityType> exceptions = arena.getArenaConfig().getEntityTypeSet(CFG.GENERAL_REGIONCLEAREXCEPTIONS);
+
         for (final Entity entity : getWorld().getEntities()) {
             if (entity instanceof Player || !shape.contains(new PABlockLocation(entity.getLocation()))) {
                 continue;
@@ -463,7 +480,7 @@ public class ArenaRegion {
                 continue;
             }
 
-            if (arena.getArenaConfig().getStringList(CFG.GENERAL_REGIONCLEAREXCEPTIONS.getNode(), new ArrayList<String>()).contains(entity.getType().name())) {
+            if (exceptions.contains(entity.getType())) {
                 continue;
             }
 
@@ -473,9 +490,11 @@ public class ArenaRegion {
             return;
         }
 
+        this.active = false;
         if(this.runningTask != null && !this.runningTask.isCancelled()) {
             this.runningTask.cancel();
         }
+        this.runningTask = null;
     }
 
     public void saveToConfig() {
@@ -496,198 +515,287 @@ public class ArenaRegion {
         this.type = type;
     }
 
-    public void tick() {
-        for (final ArenaPlayer ap : arena.getEveryone()) {
-            if (ap.get() == null || ap.isTeleporting()) {
-                continue;
-            }
-            final PABlockLocation pLoc = new PABlockLocation(ap.get().getLocation());
-            if (flags.contains(RegionFlag.DEATH) && shape.contains(pLoc)) {
-                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_DEATH));
-                for (final ArenaGoal goal : arena.getGoals()) {
-                    if (goal.getName().endsWith("DeathMatch")) {
-                        if (goal.lifeMap.containsKey(ap.getName())) {
-                            final int lives = goal.lifeMap.get(ap.getName()) + 1;
-                            goal.lifeMap.put(ap.getName(), lives);
-                        } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
-                            final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
-                            goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
-                        }
-                    }
-                }
-                ap.get().setLastDamageCause(
-                        new EntityDamageEvent(ap.get(), DamageCause.CUSTOM,
-                                1003.0));
-                ap.get().damage(1000);
-            }
-            if (flags.contains(RegionFlag.WIN) && shape.contains(pLoc)) {
-                for (final ArenaTeam team : arena.getTeams()) {
-                    if (!arena.isFreeForAll()
-                            && team.getTeamMembers().contains(ap)) {
-                        // skip winning team
-                        continue;
-                    }
-                    for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                        if (arena.isFreeForAll()
-                                && ap2.getName().equals(ap.getName())) {
-                            continue;
-                        }
-                        if (ap2.getStatus() == Status.FIGHT) {
-                            Bukkit.getWorld(world).strikeLightningEffect(
-                                    ap2.get().getLocation());
-                            final EntityDamageEvent event = new EntityDamageEvent(
-                                    ap2.get(), DamageCause.LIGHTNING, 10.0);
-                            PlayerListener.finallyKillPlayer(arena,
-                                    ap2.get(), event);
-                        }
-                    }
-                    return;
-                }
+    /**
+     * check if region transitions and ticks should currently be committed
+     *
+     * @return true if the region is active
+     */
+    public boolean isTicking() {
+        if (!this.active) {
+            return false;
+        }
+        if (this.type == RegionType.JOIN) {
+            // join regions only tick in game if joining in battle is allowed
+            return !this.arena.isFightInProgress() || PVPArena.instance.getAgm().allowsJoinInBattle(this.arena);
+        }
+        if (this.type == RegionType.WATCH || this.type == RegionType.LOUNGE) {
+            return true;
+        }
+        return this.arena.isFightInProgress();
+    }
+
+    /**
+     * a player entered this region
+     *
+     * @param player the entering player
+     */
+    public void handleEnter(final Player player) {
+        if (!this.isTicking()) {
+            return;
+        }
+        final boolean forceJoin = this.type == RegionType.JOIN
+                && this.arena.getArenaConfig().getBoolean(CFG.JOIN_FORCE);
+        if (!forceJoin && !this.flags.contains(RegionFlag.DEATH)
+                && !this.flags.contains(RegionFlag.WIN) && !this.flags.contains(RegionFlag.LOSE)) {
+            return;
+        }
+        // commit later, never kill or teleport players from inside a movement event
+        Bukkit.getScheduler().runTask(PVPArena.instance, () -> this.commitEnter(player));
+    }
+
+    /**
+     * a player left this region
+     *
+     * @param player the leaving player
+     */
+    public void handleLeave(final Player player) {
+        this.playerLocations.remove(player.getName());
+        if (!this.isTicking() || !asList(RegionType.BATTLE, RegionType.WATCH, RegionType.LOUNGE).contains(this.type)) {
+            return;
+        }
+        Bukkit.getScheduler().runTask(PVPArena.instance, () -> this.commitLeave(player));
+    }
+
+    /**
+     * check all players once, committing what entering and leaving would, e.g. after the region
+     * started ticking. After that, only players crossing the border are checked.
+     */
+    public void checkAll() {
+        if (!this.isTicking()) {
+            return;
+        }
+        for (final UUID uuid : new ArrayList<>(RegionManager.getPlayers(this))) {
+            final Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                this.commitEnter(player);
             }
-            if (flags.contains(RegionFlag.LOSE) && shape.contains(pLoc)) {
-                if (arena.isFreeForAll()) {
-                    if (ap.getStatus() == Status.FIGHT) {
-                        Bukkit.getWorld(world).strikeLightningEffect(
-                                ap.get().getLocation());
-                        final EntityDamageEvent event = new EntityDamageEvent(
-                                ap.get(), DamageCause.LIGHTNING, 10.0);
-                        PlayerListener
-                                .finallyKillPlayer(arena, ap.get(), event);
-                    }
-                } else {
-                    for (final ArenaTeam team : arena.getTeams()) {
-                        if (!team.getTeamMembers().contains(ap)) {
-                            // skip winner
-                            continue;
-                        }
-                        for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                            if (ap2.getStatus() == Status.FIGHT) {
-                                Bukkit.getWorld(world)
-                                        .strikeLightningEffect(
-                                                ap2.get().getLocation());
-                                final EntityDamageEvent event = new EntityDamageEvent(
-                                        ap2.get(), DamageCause.LIGHTNING,10.0);
-                                PlayerListener.finallyKillPlayer(arena,
-                                        ap2.get(), event);
-                            }
-                        }
-                        return;
-                    }
+        }
+        if (this.checksLeaving()) {
+            for (final ArenaPlayer ap : new ArrayList<>(this.arena.getEveryone())) {
+                final Player player = ap.get();
+                if (player != null) {
+                    this.commitLeave(player);
                 }
             }
-            if (flags.contains(RegionFlag.NOCAMP)) {
-                if (shape.contains(pLoc)) {
-                    final Location loc = playerLocations.get(ap.getName());
-                    if (loc == null) {
-                        Arena.pmsg(ap.get(),
-                                Language.parse(arena, MSG.NOTICE_YOU_NOCAMP));
-                    } else {
-                        if (loc.distance(ap.get().getLocation()) < 3) {
-                            ap.get().setLastDamageCause(
-                                    new EntityDamageEvent(ap.get(),
-                                            DamageCause.CUSTOM, arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP)));
-                            ap.get().damage(
-                                    arena.getArenaConfig().getInt(
-                                            CFG.DAMAGE_SPAWNCAMP));
-                        }
-                    }
-                    playerLocations.put(ap.getName(), ap.get()
-                            .getLocation().getBlock().getLocation());
-                } else {
-                    playerLocations.remove(ap.getName());
-                }
+        }
+    }
+
+    /**
+     * check a player once, e.g. after the player status changed
+     *
+     * @param player the player to check
+     */
+    public void checkPlayer(final Player player) {
+        if (!this.isTicking()) {
+            return;
+        }
+        if (RegionManager.getRegions(player).contains(this)) {
+            this.commitEnter(player);
+        }
+        if (this.checksLeaving()) {
+            this.commitLeave(player);
+        }
+    }
+
+    /**
+     * @return true if this region is the one checking players for having left all regions of its type
+     */
+    private boolean checksLeaving() {
+        if (!asList(RegionType.BATTLE, RegionType.WATCH, RegionType.LOUNGE).contains(this.type)) {
+            return false;
+        }
+        // a player outside of all regions of a type has to be handled only once
+        for (final ArenaRegion region : this.arena.getRegions()) {
+            if (region.type == this.type && region.isTicking()) {
+                return region == this;
             }
-            if (type == RegionType.BATTLE) {
-                if (ap.getStatus() != Status.FIGHT) {
-                    continue;
-                }
+        }
+        return false;
+    }
 
-                boolean found = false;
+    private void commitEnter(final Player player) {
+        if (!player.isOnline() || !this.isTicking() || !RegionManager.getRegions(player).contains(this)) {
+            return;
+        }
+        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player.getName());
 
-                for (final ArenaRegion region : arena.getRegionsByType(RegionType.BATTLE)) {
-                    if (region.shape.contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
+        if (ap.getArena() == null) {
+            if (this.type == RegionType.JOIN && this.arena.getArenaConfig().getBoolean(CFG.JOIN_FORCE)
+                    && !this.arena.isFightInProgress() && !this.arena.isLocked()) {
+                final PAG_Join cmd = new PAG_Join();
+                cmd.commit(this.arena, player, new String[]{this.name.replace("-join", "")});
+            }
+            return;
+        }
 
-                if (!found) {
-                    debug.i("escape due to '!found' #1");
-                    debug.i("location: "+pLoc.toString());
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    if (arena.getArenaConfig().getBoolean(
-                            CFG.GENERAL_LEAVEDEATH)) {
-                        ap.get().setLastDamageCause(
-                                new EntityDamageEvent(ap.get(),
-                                        DamageCause.CUSTOM, 1004.0));
-                        // ap.get().setHealth(0);
-                        ap.get().damage(1000);
-                    } else {
-                        arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
+        if (!this.arena.equals(ap.getArena()) || ap.isTeleporting()) {
+            return;
+        }
+
+        if (this.flags.contains(RegionFlag.DEATH)) {
+            Arena.pmsg(player, Language.parse(this.arena, MSG.NOTICE_YOU_DEATH));
+            for (final ArenaGoal goal : this.arena.getGoals()) {
+                if (goal.getName().endsWith("DeathMatch")) {
+                    if (goal.lifeMap.containsKey(ap.getName())) {
+                        final int lives = goal.lifeMap.get(ap.getName()) + 1;
+                        goal.lifeMap.put(ap.getName(), lives);
+                    } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
+                        final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
+                        goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
                     }
                 }
-            } else if (type == RegionType.WATCH) {
-
-                if (ap.getStatus() != Status.WATCH) {
+            }
+            player.setLastDamageCause(
+                    new EntityDamageEvent(player, DamageCause.CUSTOM,
+                            1003.0));
+            player.damage(1000);
+        }
+        if (this.flags.contains(RegionFlag.WIN)) {
+            for (final ArenaTeam team : this.arena.getTeams()) {
+                if (!this.arena.isFreeForAll()
+                        && team.getTeamMembers().contains(ap)) {
+                    // skip winning team
                     continue;
                 }
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.WATCH);
-
-                boolean found = false;
-
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
+                for (final ArenaPlayer ap2 : team.getTeamMembers()) {
+                    if (this.arena.isFreeForAll()
+                            && ap2.getName().equals(ap.getName())) {
+                        continue;
+                    }
+                    if (ap2.getStatus() == Status.FIGHT) {
+                        Bukkit.getWorld(this.world).strikeLightningEffect(
+                                ap2.get().getLocation());
+                        final EntityDamageEvent event = new EntityDamageEvent(
+                                ap2.get(), DamageCause.LIGHTNING, 10.0);
+                        PlayerListener.finallyKillPlayer(this.arena,
+                                ap2.get(), event);
                     }
                 }
-
-                if (!found) {
-                    debug.i("escape due to '!found' #2");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
-                    arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                }
-            } else if (type == RegionType.LOUNGE) {
-                if (ap.getStatus() != Status.READY
-                        && ap.getStatus() != Status.LOUNGE) {
-                    continue;
+                return;
+            }
+        }
+        if (this.flags.contains(RegionFlag.LOSE)) {
+            if (this.arena.isFreeForAll()) {
+                if (ap.getStatus() == Status.FIGHT) {
+                    Bukkit.getWorld(this.world).strikeLightningEffect(
+                            player.getLocation());
+                    final EntityDamageEvent event = new EntityDamageEvent(
+                            player, DamageCause.LIGHTNING, 10.0);
+                    PlayerListener
+                            .finallyKillPlayer(this.arena, player, event);
                 }
-
-                debug.i("LOUNGE TICK");
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.LOUNGE);
-
-                boolean found = false;
-
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
+            } else {
+                for (final ArenaTeam team : this.arena.getTeams()) {
+                    if (!team.getTeamMembers().contains(ap)) {
+                        // skip winner
+                        continue;
+                    }
+                    for (final ArenaPlayer ap2 : team.getTeamMembers()) {
+                        if (ap2.getStatus() == Status.FIGHT) {
+                            Bukkit.getWorld(this.world)
+                                    .strikeLightningEffect(
+                                            ap2.get().getLocation());
+                            final EntityDamageEvent event = new EntityDamageEvent(
+                                    ap2.get(), DamageCause.LIGHTNING, 10.0);
+                            PlayerListener.finallyKillPlayer(this.arena,
+                                    ap2.get(), event);
+                        }
                     }
+                    return;
                 }
+            }
+        }
+    }
 
-                if (!found) {
-                    debug.i("escape due to '!found' #3");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
-                    arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                }
+    private void commitLeave(final Player player) {
+        if (!player.isOnline() || !this.isTicking()) {
+            return;
+        }
+        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player.getName());
+        if (!this.arena.equals(ap.getArena()) || ap.isTeleporting()) {
+            return;
+        }
+
+        if (this.type == RegionType.BATTLE) {
+            if (ap.getStatus() != Status.FIGHT || RegionManager.isInRegion(player, this.arena, RegionType.BATTLE)) {
+                return;
             }
+            debug.i("escape due to '!found' #1");
+            debug.i(() -> "location: " + player.getLocation());
+            Arena.pmsg(player, Language.parse(this.arena, MSG.NOTICE_YOU_ESCAPED));
+            if (this.arena.getArenaConfig().getBoolean(
+                    CFG.GENERAL_LEAVEDEATH)) {
+                player.setLastDamageCause(
+                        new EntityDamageEvent(player,
+                                DamageCause.CUSTOM, 1004.0));
+                // player.setHealth(0);
+                player.damage(1000);
+            } else {
+                this.arena.playerLeave(player, CFG.TP_EXIT, false, false, false);
+            }
+        } else if (this.type == RegionType.WATCH) {
+            if (ap.getStatus() != Status.WATCH || RegionManager.isInRegion(player, this.arena, RegionType.WATCH)) {
+                return;
+            }
+            debug.i("escape due to '!found' #2");
+            Arena.pmsg(player, Language.parse(this.arena, MSG.NOTICE_YOU_ESCAPED));
+            debug.i(() -> "location: " + player.getLocation());
+            this.arena.playerLeave(player, CFG.TP_EXIT, false, false, false);
+        } else if (this.type == RegionType.LOUNGE) {
+            if ((ap.getStatus() != Status.READY && ap.getStatus() != Status.LOUNGE)
+                    || RegionManager.isInRegion(player, this.arena, RegionType.LOUNGE)) {
+                return;
+            }
+            debug.i("escape due to '!found' #3");
+            Arena.pmsg(player, Language.parse(this.arena, MSG.NOTICE_YOU_ESCAPED));
+            debug.i(() -> "location: " + player.getLocation());
+            this.arena.playerLeave(player, CFG.TP_EXIT, false, false, false);
         }
-        if (arena.getArenaConfig().getBoolean(CFG.JOIN_FORCE)
-                && type == RegionType.JOIN && !arena.isFightInProgress()
-                && !arena.isLocked()) {
-            for (final Player p : Bukkit.getOnlinePlayers()) {
-                final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(p.getName());
-                if (aPlayer.getArena() != null) {
-                    continue;
-                }
-                if (shape.contains(new PABlockLocation(p.getLocation()))) {
-                    final PAG_Join cmd = new PAG_Join();
-                    cmd.commit(arena, p,
-                            new String[]{name.replace("-join", "")});
+    }
+
+    /**
+     * the periodic region check, punishing campers of NOCAMP regions
+     */
+    public void tick() {
+        if (!this.flags.contains(RegionFlag.NOCAMP)) {
+            return;
+        }
+        for (final UUID uuid : new ArrayList<>(RegionManager.getPlayers(this))) {
+            final Player player = Bukkit.getPlayer(uuid);
+            if (player == null) {
+                continue;
+            }
+            final ArenaPlayer ap = ArenaPlayer.fromPlayer(player);
+            if (ap.isTeleporting() || !this.arena.equals(ap.getArena())) {
+                continue;
+            }
+            final String playerName = player.getName();
+            final Location loc = this.playerLocations.get(playerName);
+            if (loc == null) {
+                Arena.pmsg(player,
+                        Language.parse(this.arena, MSG.NOTICE_YOU_NOCAMP));
+            } else {
+                if (loc.distance(player.getLocation()) < 3) {
+                    player.setLastDamageCause(
+                            new EntityDamageEvent(player,
+                                    DamageCause.CUSTOM, this.arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP)));
+                    player.damage(
+                            this.arena.getArenaConfig().getInt(
+                                    CFG.DAMAGE_SPAWNCAMP));
                 }
             }
+            this.playerLocations.put(playerName, player
+                    .getLocation().getBlock().getLocation());
         }
     }
 
@@ -708,6 +816,7 @@ public class ArenaRegion {
 
             locs[0].setY(shape.getCenter().getY() - (height >> 1));
             locs[1].setY(locs[0].getY() + height);
+            ArenaManager.updateRegionIndex(this);
 
             return Language.parse(arena, MSG.REGION_HEIGHT, value);
         }
@@ -728,6 +837,7 @@ public class ArenaRegion {
             locs[1].setX(loc.getX() + radius);
             locs[1].setY(loc.getY() + radius);
             locs[1].setZ(loc.getZ() + radius);
+            ArenaManager.updateRegionIndex(this);
 
             return Language.parse(arena, MSG.REGION_RADIUS, value);
         }
@@ -4,6 +4,8 @@ import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PACheck;
+import net.slipcor.pvparena.classes.PARegionIndex;
+import net.slipcor.pvparena.classes.PATrie;
 import net.slipcor.pvparena.commands.AbstractArenaCommand;
 import net.slipcor.pvparena.commands.PAA_Edit;
 import net.slipcor.pvparena.commands.PAA_Setup;
@@ -29,6 +31,10 @@ import org.bukkit.event.player.PlayerInteractEvent;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * <pre>
@@ -48,6 +54,14 @@ public final class ArenaManager {
     private static final Map<String, Arena> DEF_VALUES = new HashMap<>();
     private static final Map<String, List<String>> DEF_LISTS = new HashMap<>();
 
+    // rebuilt on change and then only read, so they can be used from any thread
+    private static volatile PATrie<Arena> arenaNames = new PATrie<>();
+    private static volatile PATrie<List<String>> shortcutNames = new PATrie<>();
+    private static boolean loadingArenas;
+
+    private static final PARegionIndex REGION_INDEX = new PARegionIndex();
+    private static final Map<String, long[]> LOAD_TIMINGS = new LinkedHashMap<>();
+
     private static boolean usingShortcuts;
 
     private ArenaManager() {
@@ -85,6 +99,10 @@ public final class ArenaManager {
         final Config cfg = new Config(file);
 
         cfg.load();
+        return checkForMissingGoals(cfg);
+    }
+
+    private static String checkForMissingGoals(final Config cfg) {
         final List<String> list = cfg.getStringList(CFG.LISTS_GOALS.getNode(),
                 new ArrayList<String>());
 
@@ -172,10 +190,9 @@ public final class ArenaManager {
                 return stringArenaEntry2.getValue();
             }
         }
-        for (final Map.Entry<String, Arena> stringArenaEntry1 : ARENAS.entrySet()) {
-            if (stringArenaEntry1.getKey().startsWith(sName)) {
-                return stringArenaEntry1.getValue();
-            }
+        final Arena prefixed = arenaNames.getFirst(sName);
+        if (prefixed != null) {
+            return prefixed;
         }
         for (final Map.Entry<String, Arena> stringArenaEntry : ARENAS.entrySet()) {
             if (stringArenaEntry.getKey().contains(sName)) {
@@ -194,11 +211,29 @@ public final class ArenaManager {
         if (arena != null) {
             return arena;
         }
-        return ARENAS.entrySet().stream()
-                .filter(e -> name.equalsIgnoreCase(e.getKey()))
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .orElse(null);
+        return arenaNames.get(name);
+    }
+
+    /**
+     * add the arena names and shortcuts starting with a prefix, ignoring case
+     *
+     * @param result the collection to add to
+     * @param prefix the prefix
+     */
+    public static void addArenaNames(final Collection<String> result, final String prefix) {
+        arenaNames.collect(prefix, result);
+        shortcutNames.collect(prefix, result);
+    }
+
+    private static void updateArenaNames() {
+        if (loadingArenas) {
+            return; // done once all arenas are loaded
+        }
+        final PATrie<Arena> result = new PATrie<>();
+        for (final Arena arena : ARENAS.values()) {
+            result.put(arena.getName(), arena);
+        }
+        arenaNames = result;
     }
 
     /**
@@ -208,14 +243,13 @@ public final class ArenaManager {
      * @return an arena instance if found, null otherwise
      */
     public static Arena getArenaByRegionLocation(final PABlockLocation location) {
-        for (final Arena arena : ARENAS.values()) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location)) {
+            final Arena arena = region.getArena();
             if (arena.isLocked()) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    return arena;
-                }
+            if (region.getShape().contains(location)) {
+                return arena;
             }
         }
         return null;
@@ -223,15 +257,14 @@ public final class ArenaManager {
 
     public static Arena getArenaByProtectedRegionLocation(
             final PABlockLocation location, final RegionProtection regionProtection) {
-        for (final Arena arena : ARENAS.values()) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location, regionProtection)) {
+            final Arena arena = region.getArena();
             if (!arena.getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)
-                        && region.getProtections().contains(regionProtection)) {
-                    return arena;
-                }
+            if (region.getProtections().contains(regionProtection)
+                    && region.getShape().contains(location)) {
+                return arena;
             }
         }
         return null;
@@ -240,19 +273,62 @@ public final class ArenaManager {
     public static Set<Arena> getArenasByRegionLocation(
             final PABlockLocation location) {
         final Set<Arena> result = new HashSet<>();
-        for (final Arena arena : ARENAS.values()) {
-            if (arena.isLocked()) {
+        for (final ArenaRegion region : REGION_INDEX.getCandidates(location)) {
+            final Arena arena = region.getArena();
+            if (arena.isLocked() || result.contains(arena)) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    result.add(arena);
-                }
+            if (region.getShape().contains(location)) {
+                result.add(arena);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * get all regions containing a location, regardless of their arena state
+     *
+     * @param location the location to find
+     * @return a list of regions, empty if the location is outside of every region
+     */
+    public static List<ArenaRegion> getRegionsByLocation(final PABlockLocation location) {
+        final ArenaRegion[] candidates = REGION_INDEX.getCandidates(location);
+        if (candidates.length == 0) {
+            return Collections.emptyList();
+        }
+        final List<ArenaRegion> result = new ArrayList<>();
+        for (final ArenaRegion region : candidates) {
+            if (region.getShape().contains(location)) {
+                result.add(region);
             }
         }
         return result;
     }
 
+    /**
+     * add a region to the location index, or refresh its indexed bounds and protections.
+     * Regions of arenas that are not loaded (yet) are ignored, they are indexed when the arena is loaded.
+     *
+     * @param region the region to update
+     */
+    public static void updateRegionIndex(final ArenaRegion region) {
+        final Arena arena = region.getArena();
+        if (arena != null && arena.equals(ARENAS.get(arena.getName().toLowerCase()))
+                && arena.getRegions().contains(region)) {
+            REGION_INDEX.update(region);
+        }
+    }
+
+    /**
+     * remove a region from the location index
+     *
+     * @param region the region to remove
+     */
+    public static void removeFromRegionIndex(final ArenaRegion region) {
+        REGION_INDEX.remove(region);
+        RegionManager.forget(region);
+    }
+
     /**
      * return the arenas
      *
@@ -296,32 +372,97 @@ public final class ArenaManager {
      */
     public static void load_arenas() {
         DEBUG.i("loading arenas...");
+        ConfigSaveManager.flushAll();
+        loadingArenas = true;
         try {
             final File path = new File(PVPArena.instance.getDataFolder().getPath(),
                     "arenas");
             final File[] file = path.listFiles();
+            final List<String> names = new ArrayList<>();
+            final List<File> configFiles = new ArrayList<>();
             for (File aFile : file) {
                 if (!aFile.isDirectory() && aFile.getName().contains(".yml")) {
                     String sName = aFile.getName().replace("config_", "");
                     sName = sName.replace(".yml", "");
-                    final String error = checkForMissingGoals(sName);
-                    if (error == null) {
-                        DEBUG.i("arena: " + sName);
-                        if (!ARENAS.containsKey(sName.toLowerCase())) {
-                            Arena arena = new Arena(sName);
-                            loadArena(arena);
+                    names.add(sName);
+                    configFiles.add(aFile);
+                }
+            }
+            ConfigCacheManager.prune(configFiles);
+            if (names.isEmpty()) {
+                return;
+            }
+
+            // parse the files in parallel, everything touching the server happens below
+            final long start = System.nanoTime();
+            final int threads = Math.min(names.size(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+            final ExecutorService pool = Executors.newFixedThreadPool(threads);
+            final List<Future<Config>> configs = new ArrayList<>();
+            final long[] parseNanos = new long[names.size()];
+            for (int i = 0; i < names.size(); i++) {
+                final int pos = i;
+                final File arenaFile = new File(PVPArena.instance.getDataFolder() + "/arenas/"
+                        + names.get(i) + ".yml");
+                configs.add(pool.submit(() -> {
+                    final long parseStart = System.nanoTime();
+                    if (!arenaFile.exists()) {
+                        return null;
+                    }
+                    final Config cfg = new Config(arenaFile);
+                    final boolean loaded = cfg.load();
+                    parseNanos[pos] = System.nanoTime() - parseStart;
+                    return loaded ? cfg : null;
+                }));
+            }
+            pool.shutdown();
+
+            LOAD_TIMINGS.clear();
+            int count = 0;
+            for (int i = 0; i < names.size(); i++) {
+                final String sName = names.get(i);
+                Config cfg;
+                try {
+                    cfg = configs.get(i).get();
+                } catch (final ExecutionException e) {
+                    e.printStackTrace();
+                    cfg = null;
+                }
+                final long commitStart = System.nanoTime();
+                final String error = cfg == null ? checkForMissingGoals(sName) : checkForMissingGoals(cfg);
+                if (error == null) {
+                    DEBUG.i("arena: " + sName);
+                    if (!ARENAS.containsKey(sName.toLowerCase())) {
+                        Arena arena = new Arena(sName, cfg);
+                        if (loadArena(arena)) {
+                            count++;
                         }
-                    } else {
-                        PVPArena.instance.getLogger().warning(Language.parse(MSG.ERROR_GOAL_NOTFOUND, error, StringParser.joinSet(PVPArena.instance.getAgm().getAllGoalNames(), ", ")));
-                        PVPArena.instance.getLogger().warning(Language.parse(MSG.GOAL_INSTALLING, error));
+                        final long commitNanos = System.nanoTime() - commitStart;
+                        LOAD_TIMINGS.put(arena.getName(), new long[]{parseNanos[i], commitNanos});
+                        DEBUG.i("arena " + sName + " parsed in " + parseNanos[i] / 1000 + "us, set up in "
+                                + commitNanos / 1000 + "us");
                     }
+                } else {
+                    PVPArena.instance.getLogger().warning(Language.parse(MSG.ERROR_GOAL_NOTFOUND, error, StringParser.joinSet(PVPArena.instance.getAgm().getAllGoalNames(), ", ")));
+                    PVPArena.instance.getLogger().warning(Language.parse(MSG.GOAL_INSTALLING, error));
                 }
             }
+            PVPArena.instance.getLogger().info("Loaded " + count + " arenas in "
+                    + (System.nanoTime() - start) / 1000000 + "ms, using " + threads + " threads to parse");
         } catch (final Exception e) {
             e.printStackTrace();
+        } finally {
+            loadingArenas = false;
+            updateArenaNames();
         }
     }
 
+    /**
+     * @return the time the last loading took by arena name, parsing and setting up, in nanoseconds
+     */
+    public static Map<String, long[]> getLoadTimings() {
+        return Collections.unmodifiableMap(LOAD_TIMINGS);
+    }
+
     /**
      * Backwards compatible arena loading
      *
@@ -331,7 +472,7 @@ public final class ArenaManager {
     public static void loadArena(final String configFile) {
         DEBUG.i("loading arena " + configFile);
         final Arena arena = new Arena(configFile);
-        ARENAS.put(arena.getName().toLowerCase(), arena);
+        registerArena(arena);
     }
 
     /**
@@ -351,13 +492,37 @@ public final class ArenaManager {
             return false;
         }
 
-        ARENAS.put(arena.getName().toLowerCase(), arena);
+        registerArena(arena);
         return true;
     }
 
+    private static void registerArena(final Arena arena) {
+        final Arena previous = ARENAS.put(arena.getName().toLowerCase(), arena);
+        if (previous != null && !previous.equals(arena)) {
+            for (final ArenaRegion region : previous.getRegions()) {
+                removeFromRegionIndex(region);
+            }
+            TickManager.cancelAll(previous);
+            TeleportManager.release(previous);
+            TabManager.invalidate(previous);
+        }
+        updateArenaNames();
+        TabManager.invalidate(arena);
+        for (final ArenaRegion region : arena.getRegions()) {
+            REGION_INDEX.update(region);
+        }
+    }
+
     public static void removeArena(final Arena arena, final boolean deleteConfig) {
         arena.stop(true);
         ARENAS.remove(arena.getName().toLowerCase());
+        updateArenaNames();
+        TabManager.invalidate(arena);
+        for (final ArenaRegion region : arena.getRegions()) {
+            removeFromRegionIndex(region);
+        }
+        TickManager.cancelAll(arena);
+        TeleportManager.release(arena);
         if (deleteConfig) {
             arena.getArenaConfig().delete();
         }
@@ -428,6 +593,7 @@ public final class ArenaManager {
         usingShortcuts = false;
         DEF_VALUES.clear();
         DEF_LISTS.clear();
+        shortcutNames = new PATrie<>();
         if (cs == null) {
             PVPArena.instance.getLogger().warning("'shortcuts' node is null!!");
             DEBUG.i("'shortcuts' node is null!!");
@@ -467,6 +633,12 @@ public final class ArenaManager {
             DEF_LISTS.put(key, strings);
             advance(key);
         }
+
+        final PATrie<List<String>> names = new PATrie<>();
+        for (final Map.Entry<String, List<String>> entry : DEF_LISTS.entrySet()) {
+            names.put(entry.getKey(), entry.getValue());
+        }
+        shortcutNames = names;
     }
 
     public static boolean isUsingShortcuts() {
@@ -0,0 +1,329 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.core.Debug;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * <pre>
+ * Config Cache Manager class
+ * </pre>
+ * <p/>
+ * Keeps a binary copy of every parsed arena config in the cache folder, so that unchanged configs can be
+ * loaded without parsing YAML. An entry belongs to the file of the same size and content hash, any
+ * change to the file, by hand or by a command saving the config, makes it miss and be written again.
+ * There is one entry per config file, entries of configs that are gone are removed when loading arenas.
+ */
+
+public final class ConfigCacheManager {
+    private static final Debug DEBUG = new Debug(41);
+
+    private static final int MAGIC = 0x50414331; // PAC1
+    private static final int MAX_SIZE = 64 * 1024 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte LIST = 6;
+    private static final byte MAP = 7;
+    private static final byte OBJECT = 8;
+
+    private ConfigCacheManager() {
+    }
+
+    /**
+     * load a config file, from the cache if the file did not change since the cache has been written.
+     * Otherwise the file is parsed and the cache is written. Can be called from any thread.
+     *
+     * @param file   the config file
+     * @param config the configuration to fill
+     */
+    public static void load(final File file, final YamlConfiguration config)
+            throws IOException, InvalidConfigurationException {
+        final byte[] content = Files.readAllBytes(file.toPath());
+        final byte[] hash = hash(content);
+        final File cacheFile = getFile(file);
+
+        if (cacheFile.exists()) {
+            try {
+                final Map<String, Object> values = read(cacheFile, content.length, hash);
+                if (values != null) {
+                    for (final Map.Entry<String, Object> entry : values.entrySet()) {
+                        set(config, entry.getKey(), entry.getValue());
+                    }
+                    DEBUG.i("loaded " + file.getName() + " from cache");
+                    return;
+                }
+            } catch (final IOException | RuntimeException e) {
+                PVPArena.instance.getLogger().log(Level.WARNING, "Ignoring broken config cache " + cacheFile.getName(), e);
+            }
+        }
+
+        config.loadFromString(new String(content, StandardCharsets.UTF_8));
+        if (cacheFile.exists() && !cacheFile.delete()) {
+            DEBUG.i("could not remove the outdated cache of " + file.getName());
+        }
+        try {
+            write(cacheFile, content.length, file.lastModified(), hash, config);
+            DEBUG.i("cached " + file.getName());
+        } catch (final IOException | RuntimeException e) {
+            // some value type we do not know, just parse it the next time
+            DEBUG.i("could not cache " + file.getName() + ": " + e.getMessage());
+            cacheFile.delete();
+        }
+    }
+
+    /**
+     * remove the cache entries of config files that do not exist anymore, e.g. of removed or renamed arenas
+     *
+     * @param files the existing config files
+     */
+    public static void prune(final Collection<File> files) {
+        final File[] cached = getFolder().listFiles();
+        if (cached == null) {
+            return;
+        }
+        final Set<String> names = new HashSet<>();
+        for (final File file : files) {
+            names.add(getFile(file).getName());
+        }
+        for (final File file : cached) {
+            final String name = file.getName();
+            if ((name.endsWith(".bin") || name.endsWith(".bin.tmp")) && !names.contains(name) && file.delete()) {
+                DEBUG.i("removed stale config cache " + name);
+            }
+        }
+    }
+
+    private static File getFolder() {
+        return new File(PVPArena.instance.getDataFolder().getPath(), "cache");
+    }
+
+    private static File getFile(final File file) {
+        return new File(getFolder(), file.getName() + ".bin");
+    }
+
+    private static byte[] hash(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void set(final ConfigurationSection section, final String key, final Object value) {
+        if (value instanceof Map) {
+            final ConfigurationSection child = section.createSection(key);
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                set(child, String.valueOf(entry.getKey()), entry.getValue());
+            }
+        } else {
+            section.set(key, value);
+        }
+    }
+
+    private static void write(final File file, final int size, final long modified, final byte[] hash,
+                              final ConfigurationSection config) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeSection(out, config);
+        }
+        final byte[] payload = bytes.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        file.getParentFile().mkdirs();
+        final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(size);
+            // only kept for looking into the file, saving the config changes it even if nothing changed
+            out.writeLong(modified);
+            out.writeInt(hash.length);
+            out.write(hash);
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.writeLong(crc.getValue());
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @return the cached values, null if the cache belongs to another version of the file
+     */
+    private static Map<String, Object> read(final File file, final int size, final byte[] hash) throws IOException {
+        final byte[] payload;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a config cache file");
+            }
+            if (in.readInt() != size) {
+                return null;
+            }
+            in.readLong();
+            final byte[] cachedHash = new byte[in.readInt()];
+            in.readFully(cachedHash);
+            if (!Arrays.equals(hash, cachedHash)) {
+                return null;
+            }
+            final int length = in.readInt();
+            if (length < 0 || length > MAX_SIZE) {
+                throw new IOException("invalid length: " + length);
+            }
+            payload = new byte[length];
+            in.readFully(payload);
+            final CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (in.readLong() != crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != MAP) {
+                throw new IOException("invalid root");
+            }
+            return readMap(in);
+        }
+    }
+
+    private static void writeSection(final DataOutputStream out, final ConfigurationSection section) throws IOException {
+        final Map<String, Object> values = section.getValues(false);
+        out.writeByte(MAP);
+        out.writeInt(values.size());
+        for (final Map.Entry<String, Object> entry : values.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (final Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof ConfigurationSection) {
+            writeSection(out, (ConfigurationSection) value);
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof ConfigurationSerializable) {
+            out.writeByte(OBJECT);
+            writeString(out, ConfigurationSerialization.getAlias(((ConfigurationSerializable) value).getClass()));
+            writeValue(out, ((ConfigurationSerializable) value).serialize());
+        } else {
+            throw new IOException("unsupported type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(final DataInputStream in) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case LIST:
+                final int count = in.readInt();
+                final List<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case MAP:
+                return readMap(in);
+            case OBJECT:
+                final String alias = readString(in);
+                if (in.readByte() != MAP) {
+                    throw new IOException("invalid object");
+                }
+                final Map<String, Object> values = readMap(in);
+                values.put(ConfigurationSerialization.SERIALIZED_TYPE_KEY, alias);
+                return ConfigurationSerialization.deserializeObject(values);
+            default:
+                throw new IOException("invalid type: " + type);
+        }
+    }
+
+    private static Map<String, Object> readMap(final DataInputStream in) throws IOException {
+        final int count = in.readInt();
+        final Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String key = readString(in);
+            result.put(key, readValue(in));
+        }
+        return result;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_SIZE) {
+            throw new IOException("invalid string length: " + length);
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
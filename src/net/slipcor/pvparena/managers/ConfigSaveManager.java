@@ -0,0 +1,199 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Debug;
+import org.bukkit.Bukkit;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * <pre>
+ * Config Save Manager class
+ * </pre>
+ * <p/>
+ * Coalesces the saving of arena configs. Saving only marks a config as changed; once it has not been
+ * changed for a second, it is turned into text on the main thread and written to disk by a background
+ * task. Loading a config file first writes its pending changes, everything is written on disable.
+ */
+
+public final class ConfigSaveManager {
+    private static final Debug DEBUG = new Debug(45);
+
+    private static final long QUIET_MILLIS = 1000L;
+    private static final long CHECK_TICKS = 10L;
+
+    private static final Object WRITE_LOCK = new Object();
+    private static final Map<File, Changed> CHANGED = new ConcurrentHashMap<>();
+    private static final Map<File, String> PENDING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean CHECK_SCHEDULED = new AtomicBoolean();
+    private static final AtomicBoolean WRITE_REQUESTED = new AtomicBoolean();
+
+    private ConfigSaveManager() {
+    }
+
+    /**
+     * A config that has been changed and not yet turned into text
+     */
+    private static final class Changed {
+        private final Config config;
+        private final long time = System.currentTimeMillis();
+
+        private Changed(final Config config) {
+            this.config = config;
+        }
+    }
+
+    /**
+     * mark a config as changed, it will be written after it stayed unchanged for a moment
+     *
+     * @param file   the config file
+     * @param config the config
+     */
+    public static void save(final File file, final Config config) {
+        CHANGED.put(file.getAbsoluteFile(), new Changed(config));
+        if (PVPArena.instance == null || PVPArena.instance.isShuttingDown() || !PVPArena.instance.isEnabled()) {
+            flush(file);
+            return;
+        }
+        scheduleCheck();
+    }
+
+    /**
+     * write the changes of a config file now, blocking until done
+     *
+     * @param file the config file
+     * @return false if writing failed
+     */
+    public static boolean flush(final File file) {
+        final File key = file.getAbsoluteFile();
+        final Changed changed = CHANGED.remove(key);
+        if (changed != null) {
+            PENDING.put(key, changed.config.getYamlConfiguration().saveToString());
+        }
+        synchronized (WRITE_LOCK) {
+            final String content = PENDING.get(key);
+            return content == null || write(key, content);
+        }
+    }
+
+    /**
+     * forget the changes of a config file that is about to be deleted
+     *
+     * @param file the config file
+     */
+    public static void discard(final File file) {
+        final File key = file.getAbsoluteFile();
+        CHANGED.remove(key);
+        synchronized (WRITE_LOCK) {
+            PENDING.remove(key);
+        }
+    }
+
+    /**
+     * write all changed configs, blocking until done. To be called on the main thread.
+     */
+    public static void flushAll() {
+        for (final File file : new ArrayList<>(CHANGED.keySet())) {
+            flush(file);
+        }
+        write();
+    }
+
+    public static void shutdown() {
+        flushAll();
+    }
+
+    private static void scheduleCheck() {
+        if (CHECK_SCHEDULED.getAndSet(true)) {
+            return;
+        }
+        Bukkit.getScheduler().runTaskLater(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                CHECK_SCHEDULED.set(false);
+                check();
+            }
+        }, CHECK_TICKS);
+    }
+
+    private static void check() {
+        final long now = System.currentTimeMillis();
+        boolean waiting = false;
+        for (final Map.Entry<File, Changed> entry : CHANGED.entrySet()) {
+            if (now - entry.getValue().time < QUIET_MILLIS) {
+                waiting = true;
+                continue;
+            }
+            // the text is built here, as the config may only be read on the main thread
+            final String content = entry.getValue().config.getYamlConfiguration().saveToString();
+            if (CHANGED.remove(entry.getKey(), entry.getValue())) {
+                PENDING.put(entry.getKey(), content);
+            } else {
+                waiting = true;
+            }
+        }
+        if (!PENDING.isEmpty()) {
+            requestWrite();
+        }
+        if (waiting) {
+            scheduleCheck();
+        }
+    }
+
+    private static void requestWrite() {
+        if (WRITE_REQUESTED.getAndSet(true)) {
+            return;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                write();
+            }
+        });
+    }
+
+    private static void write() {
+        synchronized (WRITE_LOCK) {
+            WRITE_REQUESTED.set(false);
+            for (final File file : new ArrayList<>(PENDING.keySet())) {
+                final String content = PENDING.get(file);
+                if (content != null) {
+                    write(file, content);
+                }
+            }
+        }
+    }
+
+    private static boolean write(final File file, final String content) {
+        try {
+            file.getParentFile().mkdirs();
+            final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            DEBUG.i("written config: " + file.getName());
+        } catch (final IOException e) {
+            PVPArena.instance.getLogger().log(Level.SEVERE, "Could not save " + file.getName(), e);
+            return false; // keep it, the next save tries again
+        }
+        // only forget it if there is no newer one
+        PENDING.remove(file, content);
+        return true;
+    }
+}
@@ -50,7 +50,18 @@ public final class ConfigurationManager {
      * @param cfg   the configuration
      */
     public static boolean configParse(final Arena arena, final Config cfg) {
-        if (!cfg.load()) {
+        return configParse(arena, cfg, false);
+    }
+
+    /**
+     * create a config manager instance
+     *
+     * @param arena  the arena to load
+     * @param cfg    the configuration
+     * @param loaded true if the configuration file has already been loaded
+     */
+    public static boolean configParse(final Arena arena, final Config cfg, final boolean loaded) {
+        if (!loaded && !cfg.load()) {
             return false;
         }
         final YamlConfiguration config = cfg.getYamlConfiguration();
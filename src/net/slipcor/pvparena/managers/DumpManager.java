@@ -0,0 +1,312 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.classes.PAPlayerDump;
+import net.slipcor.pvparena.core.Debug;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * <pre>
+ * Dump Manager class
+ * </pre>
+ * <p/>
+ * Keeps the journal of player states, needed to restore players after a crash. Dumps are written by a
+ * background task, one binary file per player: a header, the payload and its checksum. Each file is
+ * written to a temporary file first and then moved over the old one, so there always is a complete dump.
+ * Until a dump is written, it is answered from memory. Dumps of players logging in are read before they
+ * join, see {@link #prefetch(String)}.
+ */
+
+public final class DumpManager {
+    private static final Debug DEBUG = new Debug(38);
+
+    private static final int MAGIC = 0x50414431; // PAD1
+    private static final int MAX_SIZE = 16 * 1024 * 1024;
+    private static final long PREFETCH_TIMEOUT = 60000L;
+    private static final PAPlayerDump DELETED = new PAPlayerDump(null, null, null, null);
+
+    private static final Object WRITE_LOCK = new Object();
+    private static final Map<String, PAPlayerDump> PENDING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean WRITE_REQUESTED = new AtomicBoolean();
+    private static final Map<String, Prefetched> PREFETCHED = new ConcurrentHashMap<>();
+
+    private DumpManager() {
+    }
+
+    /**
+     * A dump read before the player joined
+     */
+    private static final class Prefetched {
+        private final PAPlayerDump dump;
+        private final long time = System.currentTimeMillis();
+
+        private Prefetched(final PAPlayerDump dump) {
+            this.dump = dump;
+        }
+    }
+
+    /**
+     * read and decode the dump of a player logging in, so that joining does not need to touch the disk.
+     * To be called off the main thread.
+     *
+     * @param playerName the player name
+     */
+    public static void prefetch(final String playerName) {
+        final long now = System.currentTimeMillis();
+        for (final Map.Entry<String, Prefetched> entry : PREFETCHED.entrySet()) {
+            if (now - entry.getValue().time > PREFETCH_TIMEOUT) {
+                // the login has been denied after all
+                PREFETCHED.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (PENDING.containsKey(playerName)) {
+            return;
+        }
+        synchronized (WRITE_LOCK) {
+            // no write may happen in between, it would make the dump outdated
+            PREFETCHED.put(playerName, new Prefetched(loadFile(playerName)));
+        }
+        DEBUG.i("prefetched dump: " + playerName);
+    }
+
+    /**
+     * remember a player dump, to be written in the background
+     *
+     * @param playerName the player name
+     * @param dump       the dump to save
+     */
+    public static void save(final String playerName, final PAPlayerDump dump) {
+        PREFETCHED.remove(playerName);
+        PENDING.put(playerName, dump);
+        requestWrite();
+    }
+
+    /**
+     * remove the dump of a player
+     *
+     * @param playerName the player name
+     */
+    public static void delete(final String playerName) {
+        final Prefetched prefetched = PREFETCHED.remove(playerName);
+        if (!PENDING.containsKey(playerName)) {
+            if (prefetched != null ? prefetched.dump == null : (!getFile(playerName, ".dat").exists()
+                    && !getFile(playerName, ".yml").exists())) {
+                return;
+            }
+        }
+        PENDING.put(playerName, DELETED);
+        requestWrite();
+    }
+
+    /**
+     * read the dump of a player
+     *
+     * @param playerName the player name
+     * @return the dump, null if there is none
+     */
+    public static PAPlayerDump load(final String playerName) {
+        final PAPlayerDump pending = PENDING.get(playerName);
+        if (pending != null) {
+            return pending == DELETED ? null : pending;
+        }
+        final Prefetched prefetched = PREFETCHED.get(playerName);
+        if (prefetched != null) {
+            return prefetched.dump;
+        }
+        return loadFile(playerName);
+    }
+
+    private static PAPlayerDump loadFile(final String playerName) {
+        final File file = getFile(playerName, ".dat");
+        if (file.exists()) {
+            try {
+                return read(file);
+            } catch (final IOException | ClassNotFoundException e) {
+                PVPArena.instance.getLogger().log(Level.WARNING, "Invalid dump of " + playerName + ", moved to "
+                        + file.getName() + ".corrupt", e);
+                file.renameTo(new File(file.getParentFile(), file.getName() + ".corrupt"));
+            }
+        }
+
+        final File legacy = getFile(playerName, ".yml");
+        if (legacy.exists()) {
+            final YamlConfiguration cfg = new YamlConfiguration();
+            try {
+                cfg.load(legacy);
+                return PAPlayerDump.fromLegacy(cfg);
+            } catch (final Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * write all pending dumps, blocking until done
+     */
+    public static void shutdown() {
+        write();
+    }
+
+    private static void requestWrite() {
+        if (WRITE_REQUESTED.getAndSet(true)) {
+            return;
+        }
+        if (PVPArena.instance.isShuttingDown()) {
+            write();
+            return;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                write();
+            }
+        });
+    }
+
+    private static void write() {
+        synchronized (WRITE_LOCK) {
+            WRITE_REQUESTED.set(false);
+            for (final String playerName : new ArrayList<>(PENDING.keySet())) {
+                final PAPlayerDump dump = PENDING.get(playerName);
+                if (dump == null) {
+                    continue;
+                }
+                try {
+                    if (dump == DELETED) {
+                        Files.deleteIfExists(getFile(playerName, ".dat").toPath());
+                        Files.deleteIfExists(getFile(playerName, ".yml").toPath());
+                    } else {
+                        write(getFile(playerName, ".dat"), dump);
+                    }
+                    DEBUG.i((dump == DELETED ? "deleted dump: " : "written dump: ") + playerName);
+                } catch (final IOException e) {
+                    PVPArena.instance.getLogger().log(Level.SEVERE, "Could not save the dump of " + playerName, e);
+                    continue; // keep it, it is still answered from memory
+                }
+                // only forget it if there is no newer one
+                PENDING.remove(playerName, dump);
+                PREFETCHED.remove(playerName);
+            }
+        }
+    }
+
+    private static File getFile(final String playerName, final String extension) {
+        return new File(PVPArena.instance.getDataFolder().getPath() + "/dumps/" + playerName + extension);
+    }
+
+    private static void write(final File file, final PAPlayerDump dump) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, dump.getArenaName());
+            writeString(out, dump.getLocation());
+            final byte[] state = dump.getState();
+            out.writeInt(state == null ? -1 : state.length);
+            if (state != null) {
+                out.write(state);
+            }
+            final ItemStack[] inventory = dump.getInventory();
+            out.writeInt(inventory == null ? -1 : inventory.length);
+            if (inventory != null) {
+                final ByteArrayOutputStream items = new ByteArrayOutputStream();
+                try (BukkitObjectOutputStream itemOut = new BukkitObjectOutputStream(items)) {
+                    for (final ItemStack item : inventory) {
+                        itemOut.writeObject(item);
+                    }
+                }
+                out.writeInt(items.size());
+                items.writeTo(out);
+            }
+        }
+        final byte[] payload = bytes.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.writeLong(crc.getValue());
+            out.flush();
+            stream.getFD().sync();
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static PAPlayerDump read(final File file) throws IOException, ClassNotFoundException {
+        final byte[] payload;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a dump file");
+            }
+            final int length = in.readInt();
+            if (length < 0 || length > MAX_SIZE) {
+                throw new IOException("invalid length: " + length);
+            }
+            payload = new byte[length];
+            in.readFully(payload);
+            final CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (in.readLong() != crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final String arenaName = readString(in);
+            final String location = readString(in);
+            final int stateLength = in.readInt();
+            byte[] state = null;
+            if (stateLength >= 0) {
+                state = new byte[stateLength];
+                in.readFully(state);
+            }
+            final int count = in.readInt();
+            ItemStack[] inventory = null;
+            if (count >= 0) {
+                inventory = new ItemStack[count];
+                final byte[] items = new byte[in.readInt()];
+                in.readFully(items);
+                try (BukkitObjectInputStream itemIn = new BukkitObjectInputStream(new ByteArrayInputStream(items))) {
+                    for (int i = 0; i < count; i++) {
+                        inventory[i] = (ItemStack) itemIn.readObject();
+                    }
+                }
+            }
+            return new PAPlayerDump(arenaName, location, state, inventory);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -13,7 +13,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -74,14 +73,14 @@ public final class InventoryManager {
             keep = new ArrayList<>();
             only = new ArrayList<>();
         } else {
-            final ItemStack[] itemsExcluded = ap.getArena().getArenaConfig().getItems(CFG.ITEMS_EXCLUDEFROMDROPS);
+            final List<ItemStack> itemsExcluded = ap.getArena().getArenaConfig().getItemTemplates(CFG.ITEMS_EXCLUDEFROMDROPS);
             exclude = new ArrayList<>();
             for (final ItemStack item : itemsExcluded) {
                 if (item != null) {
                     exclude.add(item.getType());
                 }
             }
-            final ItemStack[] itemsOnlyDrop = ap.getArena().getArenaConfig().getItems(CFG.ITEMS_ONLYDROPS);
+            final List<ItemStack> itemsOnlyDrop = ap.getArena().getArenaConfig().getItemTemplates(CFG.ITEMS_ONLYDROPS);
             only = new ArrayList<>();
             for (final ItemStack item : itemsOnlyDrop) {
                 if (item != null) {
@@ -92,7 +91,7 @@ public final class InventoryManager {
             if (keepAll) {
                 keep = new ArrayList<>();
             } else {
-                keep = Arrays.asList(ap.getArena().getArenaConfig().getItems(CFG.ITEMS_KEEPONRESPAWN));
+                keep = ap.getArena().getArenaConfig().getItemTemplates(CFG.ITEMS_KEEPONRESPAWN);
             }
         }
 
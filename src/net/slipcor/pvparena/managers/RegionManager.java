@@ -0,0 +1,223 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * Region Manager class
+ * </pre>
+ * <p/>
+ * Keeps track of the regions every player is standing in. Memberships are updated when a player or the
+ * vehicle carrying them crosses a block boundary, teleports or respawns, and the regions are notified about players entering and leaving
+ * them, so region checks only cost something when players actually move.
+ */
+
+public final class RegionManager {
+    private static final Debug DEBUG = new Debug(36);
+
+    private static final Map<UUID, Set<ArenaRegion>> PLAYER_REGIONS = new HashMap<>();
+    private static final Map<ArenaRegion, Set<UUID>> REGION_PLAYERS = new HashMap<>();
+
+    private RegionManager() {
+    }
+
+    /**
+     * check if a movement crosses a block boundary
+     *
+     * @param from the old location
+     * @param to   the new location
+     * @return true if the block or the world changed
+     */
+    public static boolean isBlockChange(final Location from, final Location to) {
+        return from.getBlockX() != to.getBlockX()
+                || from.getBlockY() != to.getBlockY()
+                || from.getBlockZ() != to.getBlockZ()
+                || !from.getWorld().equals(to.getWorld());
+    }
+
+    /**
+     * update the regions of a player and commit region enter and leave transitions
+     *
+     * @param player   the player to update
+     * @param location the new player location
+     */
+    public static void update(final Player player, final Location location) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+        final UUID uuid = player.getUniqueId();
+        final Set<ArenaRegion> previous = PLAYER_REGIONS.get(uuid);
+        final List<ArenaRegion> found = ArenaManager.getRegionsByLocation(new PABlockLocation(location));
+
+        if (previous == null && found.isEmpty()) {
+            return; // outside of every region, nothing changed
+        }
+
+        final Set<ArenaRegion> current = new HashSet<>(found);
+        final List<ArenaRegion> left = new ArrayList<>();
+        final List<ArenaRegion> entered = new ArrayList<>();
+
+        if (previous != null) {
+            for (final ArenaRegion region : previous) {
+                if (!current.contains(region)) {
+                    left.add(region);
+                }
+            }
+        }
+        for (final ArenaRegion region : current) {
+            if (previous == null || !previous.contains(region)) {
+                entered.add(region);
+            }
+        }
+
+        if (left.isEmpty() && entered.isEmpty()) {
+            return;
+        }
+
+        if (current.isEmpty()) {
+            PLAYER_REGIONS.remove(uuid);
+        } else {
+            PLAYER_REGIONS.put(uuid, current);
+        }
+
+        for (final ArenaRegion region : left) {
+            DEBUG.i(player.getName() + " left region " + region.getRegionName(), player);
+            final Set<UUID> players = REGION_PLAYERS.get(region);
+            if (players != null) {
+                players.remove(uuid);
+                if (players.isEmpty()) {
+                    REGION_PLAYERS.remove(region);
+                }
+            }
+            region.handleLeave(player);
+        }
+
+        for (final ArenaRegion region : entered) {
+            DEBUG.i(player.getName() + " entered region " + region.getRegionName(), player);
+            Set<UUID> players = REGION_PLAYERS.get(region);
+            if (players == null) {
+                players = new HashSet<>();
+                REGION_PLAYERS.put(region, players);
+            }
+            players.add(uuid);
+            region.handleEnter(player);
+        }
+    }
+
+    /**
+     * check a player once against all regions of an arena, e.g. after the player status changed.
+     * Standing still in or outside of a region does not trigger any transition.
+     *
+     * @param arena  the arena of the player
+     * @param player the player to check
+     */
+    public static void checkStatus(final Arena arena, final Player player) {
+        if (PVPArena.instance.isShuttingDown()) {
+            return; // no tasks can be scheduled anymore
+        }
+        Bukkit.getScheduler().runTask(PVPArena.instance, () -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            for (final ArenaRegion region : new ArrayList<>(arena.getRegions())) {
+                region.checkPlayer(player);
+            }
+        });
+    }
+
+    /**
+     * forget about a player, e.g. when logging out
+     *
+     * @param player the player to remove
+     */
+    public static void remove(final Player player) {
+        final Set<ArenaRegion> regions = PLAYER_REGIONS.remove(player.getUniqueId());
+        if (regions == null) {
+            return;
+        }
+        for (final ArenaRegion region : regions) {
+            final Set<UUID> players = REGION_PLAYERS.get(region);
+            if (players != null) {
+                players.remove(player.getUniqueId());
+                if (players.isEmpty()) {
+                    REGION_PLAYERS.remove(region);
+                }
+            }
+            region.handleLeave(player);
+        }
+    }
+
+    /**
+     * forget about a region, e.g. when it is removed or its arena is reloaded
+     *
+     * @param region the region to remove
+     */
+    public static void forget(final ArenaRegion region) {
+        final Set<UUID> players = REGION_PLAYERS.remove(region);
+        if (players == null) {
+            return;
+        }
+        for (final UUID uuid : players) {
+            final Set<ArenaRegion> regions = PLAYER_REGIONS.get(uuid);
+            if (regions != null) {
+                regions.remove(region);
+                if (regions.isEmpty()) {
+                    PLAYER_REGIONS.remove(uuid);
+                }
+            }
+        }
+    }
+
+    /**
+     * get the regions a player is standing in
+     *
+     * @param player the player to check
+     * @return a read-only set of regions
+     */
+    public static Set<ArenaRegion> getRegions(final Player player) {
+        final Set<ArenaRegion> regions = PLAYER_REGIONS.get(player.getUniqueId());
+        return regions == null ? Collections.<ArenaRegion>emptySet() : Collections.unmodifiableSet(regions);
+    }
+
+    /**
+     * get the UUIDs of the players standing in a region
+     *
+     * @param region the region to check
+     * @return a read-only set of player UUIDs
+     */
+    public static Set<UUID> getPlayers(final ArenaRegion region) {
+        final Set<UUID> players = REGION_PLAYERS.get(region);
+        return players == null ? Collections.<UUID>emptySet() : Collections.unmodifiableSet(players);
+    }
+
+    /**
+     * check if a player stands in a region of a given arena and type
+     *
+     * @param player the player to check
+     * @param arena  the arena the region has to belong to
+     * @param type   the region type to look for
+     * @return true if such a region contains the player
+     */
+    public static boolean isInRegion(final Player player, final Arena arena, final RegionType type) {
+        final Set<ArenaRegion> regions = PLAYER_REGIONS.get(player.getUniqueId());
+        if (regions == null) {
+            return false;
+        }
+        for (final ArenaRegion region : regions) {
+            if (region.getType() == type && arena.equals(region.getArena())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -22,7 +22,6 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -41,46 +40,6 @@ public final class SpawnManager {
     private SpawnManager() {
     }
 
-    private static String calculateFarSpawn(final String[] taken,
-                                            final Set<PASpawn> available,
-                                            final Set<PASpawn> total) {
-        DEBUG.i("--------------------");
-        DEBUG.i("calculating a spawn!");
-        DEBUG.i("--------------------");
-        String far = null;
-        for (final PASpawn s : available) {
-            far = s.getName();
-            break;
-        }
-        DEBUG.i("last resort: " + far);
-
-        double diff = 0;
-        for (final PASpawn s : available) {
-            DEBUG.i("> checking " + s.getName());
-            double tempDiff = 0;
-            for (int i = 0; i < taken.length && taken[i] != null; i++) {
-                for (final PASpawn tt : total) {
-                    for (final PASpawn aa : available) {
-                        if (tt.getName().equals(taken[i])
-                                && aa.getName().equals(s.getName())) {
-                            tempDiff += tt.getLocation().getDistanceSquared(aa.getLocation());
-                            DEBUG.i(">> tempDiff: " + tempDiff);
-                        }
-                    }
-                }
-
-            }
-
-            if (tempDiff > diff) {
-                DEBUG.i("-> diff");
-                diff = tempDiff;
-                far = s.getName();
-            }
-        }
-
-        return far;
-    }
-
     public static void distribute(final Arena arena, final ArenaTeam team) {
         final Set<ArenaRegion> ars = arena.getRegionsByType(RegionType.SPAWN);
 
@@ -90,71 +49,37 @@ public final class SpawnManager {
         }
 
         if (arena.getArenaConfig().getBoolean(CFG.GENERAL_QUICKSPAWN)) {
-            class TeleportLater extends BukkitRunnable {
-                private final Set<ArenaPlayer> teamMembers = new HashSet<>();
-                private final boolean classSpawn;
-                private int pos;
-
-                private PASpawn[] locations;
-
-                TeleportLater(final Set<ArenaPlayer> set) {
-                    for (final ArenaPlayer ap : set) {
-                        teamMembers.add(ap);
-                    }
-                    classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+            final boolean classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+            final Set<PASpawn> spawns = new HashSet<>();
+            if (arena.isFreeForAll()) {
+                if ("free".equals(team.getName())) {
+                    spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, "spawn"));
+                } else {
+                    spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName()));
                 }
+            } else {
+                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName() + "spawn"));
+            }
+            arena.getDebugger().i("read spawns for '" + team.getName() + "'; size: " + spawns.size());
+            final PASpawn[] locations = new PASpawn[spawns.size()];
+            int pos = 0;
+            for (final PASpawn spawn : spawns) {
+                arena.getDebugger().i("- " + spawn.getName());
+                locations[pos++] = spawn;
+            }
+            if (locations.length < 1 && !classSpawn) {
+                return;
+            }
 
-                @Override
-                public void run() {
-
-                    if (locations == null) {
-                        final Set<PASpawn> spawns = new HashSet<>();
-                        if (arena.isFreeForAll()) {
-                            if ("free".equals(team.getName())) {
-                                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, "spawn"));
-                            } else {
-                                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName()));
-                            }
-                        } else {
-                            spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName() + "spawn"));
-                        }
-                        arena.getDebugger().i("read spawns for '" + team.getName() + "'; size: " + spawns.size());
-                        locations = new PASpawn[spawns.size()];
-                        int pos = 0;
-                        for (final PASpawn spawn : spawns) {
-                            arena.getDebugger().i("- " + spawn.getName());
-                            locations[pos++] = spawn;
-                        }
-                    }
-
-
-                    for (final ArenaPlayer ap : teamMembers) {
-                        if (classSpawn) {
-
-
-                            final Set<PASpawn> spawns = SpawnManager.getPASpawnsStartingWith(arena, team.getName() + ap.getArenaClass().getName() + "spawn");
-
-                            int pos = new Random().nextInt(spawns.size());
-                            for (final PASpawn spawn : spawns) {
-                                if (--pos < 0) {
-                                    arena.tpPlayerToCoordName(ap, spawn.getName());
-                                    break;
-                                }
-                            }
-
-                        } else {
-                            arena.tpPlayerToCoordName(ap, locations[pos++ % locations.length].getName());
-                        }
-                        ap.setStatus(Status.FIGHT);
-                        teamMembers.remove(ap);
-                        return;
-                    }
-                    cancel();
+            pos = 0;
+            for (final ArenaPlayer ap : team.getTeamMembers()) {
+                if (classSpawn) {
+                    final Set<PASpawn> classSpawns = SpawnManager.getPASpawnsStartingWith(arena, team.getName() + ap.getArenaClass().getName() + "spawn");
+                    TeleportManager.teleport(arena, ap, getRandomSpawnName(classSpawns));
+                } else {
+                    TeleportManager.teleport(arena, ap, locations[pos++ % locations.length].getName());
                 }
-
             }
-            new TeleportLater(team.getTeamMembers()).runTaskTimer(PVPArena.instance, 1L, 1L);
-
             return;
         }
 
@@ -187,51 +112,19 @@ public final class SpawnManager {
             return;
         }
 
-        class TeleportLater extends BukkitRunnable {
-            private final Set<ArenaPlayer> set = new HashSet<>();
-            private final boolean classSpawn;
-
-            TeleportLater(final Set<ArenaPlayer> set) {
-                for (final ArenaPlayer ap : set) {
-                    this.set.add(ap);
-                }
-                classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
-            }
-
-            @Override
-            public void run() {
-                for (final ArenaPlayer ap : set) {
-                    ap.setStatus(Status.FIGHT);
-                    if (classSpawn) {
-
-
-                        final Set<PASpawn> spawns = SpawnManager.getPASpawnsStartingWith(arena, ap.getArenaTeam().getName() + ap.getArenaClass().getName() + "spawn");
-
-                        int pos = new Random().nextInt(spawns.size());
-                        for (final PASpawn spawn : spawns) {
-                            if (--pos < 0) {
-                                arena.tpPlayerToCoordName(ap, spawn.getName());
-                                break;
-                            }
-                        }
-
-                    } else {
-                        for (final PASpawn s : spawns) {
-                            arena.tpPlayerToCoordName(ap, s.getName());
-                            if (spawns.size() > 1) {
-                                spawns.remove(s);
-                            }
-                            break;
-                        }
-                    }
-                    set.remove(ap);
-                    return;
+        final boolean classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+        for (final ArenaPlayer ap : set) {
+            if (classSpawn) {
+                final Set<PASpawn> classSpawns = SpawnManager.getPASpawnsStartingWith(arena, ap.getArenaTeam().getName() + ap.getArenaClass().getName() + "spawn");
+                TeleportManager.teleport(arena, ap, getRandomSpawnName(classSpawns));
+            } else {
+                final PASpawn spawn = spawns.iterator().next();
+                TeleportManager.teleport(arena, ap, spawn.getName());
+                if (spawns.size() > 1) {
+                    spawns.remove(spawn);
                 }
-                cancel();
             }
-
         }
-        new TeleportLater(set).runTaskTimer(PVPArena.instance, 1L, 1L);
     }
 
     public static void distributeSmart(final Arena arena,
@@ -242,19 +135,15 @@ public final class SpawnManager {
         }
 
         final Set<PASpawn> locations;
-        final Set<PASpawn> total_locations;
 
         if (arena.isFreeForAll()) {
             if ("free".equals(teamNName)) {
                 locations = getPASpawnsStartingWith(arena, "spawn");
-                total_locations = getPASpawnsStartingWith(arena, "spawn");
             } else {
                 locations = getPASpawnsStartingWith(arena, teamNName);
-                total_locations = getPASpawnsStartingWith(arena, teamNName);
             }
         } else {
             locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
-            total_locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
         }
 
         if (locations == null || locations.size() < 1) {
@@ -262,64 +151,26 @@ public final class SpawnManager {
             return;
         }
 
-        final String[] iteratings = new String[locations.size()];
-
-        for (int i = 0; i < total_locations.size(); i++) {
-            if (i == 0) {
-                PASpawn innerSpawn = null;
-                for (final PASpawn ss : locations) {
-                    innerSpawn = ss;
-                    break;
-                }
-                iteratings[i] = innerSpawn.getName();
-                locations.remove(innerSpawn);
-                continue;
-            }
-            final String spawnName = calculateFarSpawn(iteratings, locations, total_locations);
-            iteratings[i] = spawnName;
-            for (final PASpawn spawn : locations) {
-                if (spawn.getName().equals(spawnName)) {
-                    locations.remove(spawn);
-                    break;
-                }
-            }
+        final String[] iteratings = arena.getSpawnDistances().distribute(locations);
+        DEBUG.i(() -> "spawn order: " + StringParser.joinArray(iteratings, ","));
 
+        int pos = 0;
+        for (final ArenaPlayer ap : set) {
+            TeleportManager.teleport(arena, ap, iteratings[pos++ % iteratings.length]);
         }
+    }
 
-        class TeleportLater extends BukkitRunnable {
-            private int pos;
-            private final String[] iteratings;
-            private final Set<ArenaPlayer> set = new HashSet<>();
-
-            TeleportLater(final Set<ArenaPlayer> set, final String[] iteratings) {
-                pos = 0;
-                for (final ArenaPlayer ap : set) {
-                    this.set.add(ap);
-                }
-                this.iteratings = iteratings.clone();
-            }
 
-            @Override
-            public void run() {
-                for (final ArenaPlayer ap : set) {
-                    ap.setStatus(Status.FIGHT);
-                    final String spawnName = iteratings[pos++ % iteratings.length];
-                    if (spawnName == null) {
-                        PVPArena.instance.getLogger().warning("Element #" + pos + " is null: [" + StringParser.joinArray(iteratings, ",") + ']');
-                    }
-                    arena.tpPlayerToCoordName(ap, spawnName);
-                    set.remove(ap);
-                    return;
-                }
-                cancel();
+    private static String getRandomSpawnName(final Set<PASpawn> spawns) {
+        int pos = new Random().nextInt(spawns.size());
+        for (final PASpawn spawn : spawns) {
+            if (--pos < 0) {
+                return spawn.getName();
             }
-
         }
-
-        new TeleportLater(set, iteratings).runTaskTimer(PVPArena.instance, 1L, 1L);
+        return null;
     }
 
-
     public static PABlockLocation getBlockNearest(final Set<PABlockLocation> locs,
                                                   final PABlockLocation location) {
         PABlockLocation result = null;
@@ -1,27 +1,32 @@
 package net.slipcor.pvparena.managers;
 
 import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.api.IStatisticsBackend;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.classes.PALeaderboard;
 import net.slipcor.pvparena.classes.PAStatMap;
+import net.slipcor.pvparena.classes.PAStatRecord;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.events.PADeathEvent;
 import net.slipcor.pvparena.events.PAKillEvent;
+import net.slipcor.pvparena.statistics.SQLiteStatisticsBackend;
+import net.slipcor.pvparena.statistics.YamlStatisticsBackend;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import static java.util.Comparator.reverseOrder;
-
 /**
  * <pre>Statistics Manager class</pre>
  * <p/>
@@ -33,11 +38,40 @@ import static java.util.Comparator.reverseOrder;
 
 public final class StatisticsManager {
     private static final Debug DEBUG = new Debug(28);
-    private static File playersFile;
-    private static YamlConfiguration config;
+    private static final Object WRITE_LOCK = new Object();
+    private static final Map<String, PAStatRecord> DIRTY = new ConcurrentHashMap<>();
+    private static final AtomicBoolean FLUSH_REQUESTED = new AtomicBoolean();
+    // the leaderboards are updated and read on the main thread, the map may be looked up from anywhere
+    private static final Map<String, PALeaderboard[]> LEADERBOARDS = new ConcurrentHashMap<>();
+    private static final PALeaderboard[] GLOBAL_LEADERBOARDS = createLeaderboards();
+    private static final Map<String, Map<String, PAStatRecord>> STORED_TOP = new ConcurrentHashMap<>();
+    private static final Set<String> STORED_TOP_FRESH = ConcurrentHashMap.newKeySet();
+    private static final Set<String> STORED_TOP_REQUESTED = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Prefetched> PREFETCHED = new ConcurrentHashMap<>();
+    private static final Set<ArenaPlayer> LOADING = ConcurrentHashMap.newKeySet();
+    private static final Set<String> LOADED = ConcurrentHashMap.newKeySet();
+    private static final long PREFETCH_TIMEOUT = 60000L;
+    private static final int BOARD_SIZE = 8;
+    private static IStatisticsBackend backend;
+    private static BukkitTask flushTask;
+    private static ArenaPlayer[] topPlayers = new ArenaPlayer[BOARD_SIZE];
+    private static long[] topValues = new long[BOARD_SIZE];
 
     private StatisticsManager() {}
 
+    /**
+     * The stats of a player, read before they joined
+     */
+    private static final class Prefetched {
+        private final List<PAStatRecord> records;
+        private final long time = System.currentTimeMillis();
+
+        private Prefetched(final List<PAStatRecord> records) {
+            this.records = records;
+        }
+    }
+
+
     public enum Type {
         WINS("matches won", "Wins"),
         LOSSES("matches lost", "Losses"),
@@ -112,6 +146,13 @@ public final class StatisticsManager {
         public String getNiceName() {
             return this.niceDesc;
         }
+
+        /**
+         * @return true if the stat keeps the highest value instead of adding up
+         */
+        public boolean isMaximum() {
+            return this == MAXDAMAGE || this == MAXDAMAGETAKE;
+        }
     }
 
     /**
@@ -124,54 +165,120 @@ public final class StatisticsManager {
      */
     public static void damage(final Arena arena, final Entity entity, final Player defender, final double dmg) {
 
-        arena.getDebugger().i("adding damage to player " + defender.getName(), defender);
+        arena.getDebugger().i(() -> "adding damage to player " + defender.getName(), defender);
 
 
         if (entity instanceof Player) {
             final Player attacker = (Player) entity;
-            arena.getDebugger().i("attacker is player: " + attacker.getName(), defender);
+            arena.getDebugger().i(() -> "attacker is player: " + attacker.getName(), defender);
             if (arena.hasPlayer(attacker)) {
                 arena.getDebugger().i("attacker is in the arena, adding damage!", defender);
-                final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
-                final int maxdamage = apAttacker.getStatistics(arena).getStat(Type.MAXDAMAGE);
-                apAttacker.getStatistics(arena).incStat(Type.DAMAGE, (int) dmg);
-                if (dmg > maxdamage) {
-                    apAttacker.getStatistics(arena).setStat(Type.MAXDAMAGE, (int) dmg);
-                }
+                final PAStatMap attackerStats = ArenaPlayer.fromPlayer(attacker).getStatistics(arena);
+                attackerStats.incStat(Type.DAMAGE, (long) dmg);
+                attackerStats.maxStat(Type.MAXDAMAGE, (long) dmg);
             }
         }
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-
-        final int maxdamage = apDefender.getStatistics(arena).getStat(Type.MAXDAMAGETAKE);
-        apDefender.getStatistics(arena).incStat(Type.DAMAGETAKE, (int) dmg);
-        if (dmg > maxdamage) {
-            apDefender.getStatistics(arena).setStat(Type.MAXDAMAGETAKE, (int) dmg);
-        }
+        final PAStatMap defenderStats = ArenaPlayer.fromPlayer(defender).getStatistics(arena);
+        defenderStats.incStat(Type.DAMAGETAKE, (long) dmg);
+        defenderStats.maxStat(Type.MAXDAMAGETAKE, (long) dmg);
     }
 
     /**
      * get an array of stats for arena boards and with a given stats type
      *
      * @param arena  the arena to check
-     * @param statType the type to sort
+     * @param statType the type to sort, NULL for the names of the players ranked by the first type
      * @return an array of stats values
      */
     public static String[] getStatsValuesForBoard(final Arena arena, final Type statType) {
-        DEBUG.i("getting stats values: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
+        if (statType == Type.NULL) {
+            return getStatsNamesForBoard(arena, Type.next(Type.NULL));
+        }
+        DEBUG.i(() -> "getting stats values: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
-        if (arena == null) {
-            return ArenaPlayer.getAllArenaPlayers().stream()
-                    .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getTotalStatistics(statType)))
-                    .sorted(reverseOrder())
-                    .limit(8)
-                    .toArray(String[]::new);
+        final String[] names = new String[BOARD_SIZE];
+        final long[] values = new long[BOARD_SIZE];
+        final String[] result = new String[fillTop(arena, statType, names, values)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = String.valueOf(values[i]);
         }
+        return result;
+    }
 
-        return arena.getFighters().stream()
-                .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getStatistics().getStat(statType)))
-                .sorted(reverseOrder())
-                .limit(8)
-                .toArray(String[]::new);
+    /**
+     * get the player names for arena boards, in the same order as the values of
+     * {@link #getStatsValuesForBoard(Arena, Type)} for the same type
+     *
+     * @param arena    the arena to check
+     * @param sortType the type the board is sorted by
+     * @return an array of player names
+     */
+    public static String[] getStatsNamesForBoard(final Arena arena, final Type sortType) {
+        DEBUG.i(() -> "getting stats names: " + (arena == null ? "global" : arena.getName()) + " sorted by " + sortType);
+
+        final String[] names = new String[BOARD_SIZE];
+        final int count = sortType == Type.NULL ? 0 : fillTop(arena, sortType, names, new long[BOARD_SIZE]);
+        return count == names.length ? names : Arrays.copyOf(names, count);
+    }
+
+    /**
+     * get the leaderboard of a stat
+     *
+     * @param arena    the arena to check, null for the sum of all arenas
+     * @param statType the kind of stat, not NULL
+     * @return the leaderboard, null if the arena has no stats
+     */
+    public static PALeaderboard getLeaderboard(final Arena arena, final Type statType) {
+        final PALeaderboard[] boards = arena == null ? GLOBAL_LEADERBOARDS : LEADERBOARDS.get(arena.getName());
+        return boards == null ? null : boards[statType.ordinal()];
+    }
+
+    /**
+     * get the rank of a player in a stat, among the players in memory
+     *
+     * @param arena    the arena to check, null for the sum of all arenas
+     * @param statType the kind of stat, not NULL
+     * @param aPlayer  the player to check
+     * @return the rank, starting with 1, or 0 if the player has no such stat
+     */
+    public static int getRank(final Arena arena, final Type statType, final ArenaPlayer aPlayer) {
+        final PALeaderboard board = getLeaderboard(arena, statType);
+        return board == null ? 0 : board.getRank(aPlayer);
+    }
+
+    /**
+     * keep the leaderboards up to date, called by the PAStatMap of a player when a stat changes
+     *
+     * @param aPlayer   the player
+     * @param arenaName the arena of the stat
+     * @param statType  the kind of stat
+     * @param oldValue  the value before the change
+     * @param newValue  the value after the change
+     */
+    public static void updateLeaderboards(final ArenaPlayer aPlayer, final String arenaName, final Type statType,
+                                          final long oldValue, final long newValue) {
+        if (statType == Type.NULL || oldValue == newValue) {
+            return;
+        }
+        PALeaderboard[] boards = LEADERBOARDS.get(arenaName);
+        if (boards == null) {
+            boards = createLeaderboards();
+            LEADERBOARDS.put(arenaName, boards);
+        }
+        boards[statType.ordinal()].update(aPlayer, newValue);
+
+        final PALeaderboard global = GLOBAL_LEADERBOARDS[statType.ordinal()];
+        global.update(aPlayer, global.getValue(aPlayer) + newValue - oldValue);
+    }
+
+    private static PALeaderboard[] createLeaderboards() {
+        final PALeaderboard[] boards = new PALeaderboard[Type.values().length];
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                boards[type.ordinal()] = new PALeaderboard();
+            }
+        }
+        return boards;
     }
 
     /**
@@ -180,7 +287,7 @@ public final class StatisticsManager {
      * @param statType the kind of stat
      * @return A map with player name and stat value
      */
-    public static Map<String, Integer> getStats(final Arena arena, final Type statType) {
+    public static Map<String, Long> getStats(final Arena arena, final Type statType) {
         DEBUG.i("getting stats: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
         if (arena == null) {
@@ -192,6 +299,126 @@ public final class StatisticsManager {
                 .collect(Collectors.toMap(ArenaPlayer::getName, ap -> ap.getStatistics().getStat(statType)));
     }
 
+
+    /**
+     * get the best players of a stat
+     *
+     * @param arena    the arena to check, null for the sum of all arenas
+     * @param statType the kind of stat
+     * @param limit    the maximum amount of players
+     * @return A map with player name and stat value, best first
+     */
+    public static Map<String, Long> getTopStats(final Arena arena, final Type statType, final int limit) {
+        DEBUG.i(() -> "getting top stats: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
+
+        final Map<String, Long> result = new LinkedHashMap<>();
+        if (statType == Type.NULL || limit < 1) {
+            return result;
+        }
+        final String[] names = new String[limit];
+        final long[] values = new long[limit];
+        final int count = fillTop(arena, statType, names, values);
+        for (int i = 0; i < count; i++) {
+            result.put(names[i], values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * read the best players of a stat, best first. The players in memory are read from the leaderboard,
+     * the stored values are only used for the others. To be called on the main thread.
+     *
+     * @param arena    the arena to check, null for the sum of all arenas
+     * @param statType the kind of stat, not NULL
+     * @param names    the array to fill with the player names, its length being the limit
+     * @param values   the array to fill with the values, at least as long as the names array
+     * @return the amount of entries filled
+     */
+    private static int fillTop(final Arena arena, final Type statType, final String[] names, final long[] values) {
+        final int limit = names.length;
+        if (topPlayers.length < limit) {
+            topPlayers = new ArenaPlayer[limit];
+            topValues = new long[limit];
+        }
+        final ArenaPlayer[] players = topPlayers;
+        final long[] live = topValues;
+        final PALeaderboard board = getLeaderboard(arena, statType);
+        final int liveCount = board == null ? 0 : board.getTop(players, live, limit);
+        try {
+            return merge(arena, statType, names, values, players, live, liveCount);
+        } finally {
+            Arrays.fill(players, 0, liveCount, null);
+        }
+    }
+
+    /**
+     * merge the ranking of the players in memory with the stored ranking of the others
+     */
+    private static int merge(final Arena arena, final Type statType, final String[] names, final long[] values,
+                             final ArenaPlayer[] players, final long[] live, final int liveCount) {
+        final int limit = names.length;
+        int pos = 0;
+        int next = 0;
+        for (final PAStatRecord record : getStoredTop(arena, statType, limit).values()) {
+            if (LOADED.contains(record.getId())) {
+                continue; // the leaderboard has the latest value
+            }
+            final long value = record.getStat(statType);
+            while (next < liveCount && pos < limit && live[next] >= value) {
+                names[pos] = players[next].getName();
+                values[pos++] = live[next++];
+            }
+            if (pos >= limit) {
+                return pos;
+            }
+            names[pos] = record.getName();
+            values[pos++] = value;
+        }
+        while (next < liveCount && pos < limit) {
+            names[pos] = players[next].getName();
+            values[pos++] = live[next++];
+        }
+        return pos;
+    }
+
+    /**
+     * get the best stored values of a stat, remembered until the next write. They are read in the
+     * background, the values read before are used until then.
+     */
+    private static Map<String, PAStatRecord> getStoredTop(final Arena arena, final Type statType, final int limit) {
+        final IStatisticsBackend current = backend;
+        if (current == null) {
+            return Collections.emptyMap();
+        }
+        final String key = (arena == null ? "" : arena.getName()) + ':' + statType.name() + ':' + limit;
+        final Map<String, PAStatRecord> top = STORED_TOP.get(key);
+        if (!STORED_TOP_FRESH.contains(key) && !PVPArena.instance.isShuttingDown()
+                && STORED_TOP_REQUESTED.add(key)) {
+            // players in memory are skipped, so read enough entries for the others
+            final int count = limit + LOADED.size();
+            Bukkit.getScheduler().runTaskAsynchronously(PVPArena.instance, new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (WRITE_LOCK) {
+                        // no write may happen in between, it would make the values outdated
+                        try {
+                            if (backend == current) {
+                                STORED_TOP.put(key, current.getTop(arena == null ? null : arena.getName(),
+                                        statType, count));
+                                STORED_TOP_FRESH.add(key);
+                            }
+                        } catch (final Exception e) {
+                            PVPArena.instance.getLogger().log(Level.WARNING, "Could not read the top stats", e);
+                        } finally {
+                            STORED_TOP_REQUESTED.remove(key);
+                        }
+                    }
+                }
+            });
+        }
+        return top == null ? Collections.<String, PAStatRecord>emptyMap() : top;
+    }
+
     /**
      * get the type by the sign headline
      *
@@ -216,24 +443,64 @@ public final class StatisticsManager {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        config = new YamlConfiguration();
-        playersFile = new File(PVPArena.instance.getDataFolder(), "players.yml");
-        if (!playersFile.exists()) {
+        shutdown();
+
+        final File playersFile = new File(PVPArena.instance.getDataFolder(), "players.yml");
+        final boolean created = !playersFile.exists();
+        IStatisticsBackend newBackend = new YamlStatisticsBackend(playersFile);
+
+        if ("sqlite".equalsIgnoreCase(PVPArena.instance.getConfig().getString("statsBackend", "yml"))) {
+            final IStatisticsBackend sqlBackend = new SQLiteStatisticsBackend(
+                    new File(PVPArena.instance.getDataFolder(), "players.db"));
             try {
-                playersFile.createNewFile();
-                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
+                sqlBackend.open();
+                if (sqlBackend.isEmpty() && playersFile.exists()) {
+                    importStatistics(playersFile, sqlBackend);
+                }
+                newBackend = sqlBackend;
+            } catch (final Exception e) {
+                PVPArena.instance.getLogger().log(Level.SEVERE, "Could not open the stats database, using players.yml", e);
+                sqlBackend.close();
+            }
+        }
+
+        if (newBackend instanceof YamlStatisticsBackend) {
+            try {
+                newBackend.open();
+                if (created) {
+                    Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
+                }
             } catch (final Exception e) {
                 Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
                 e.printStackTrace();
+                return;
             }
         }
+        backend = newBackend;
+        DEBUG.i("statistics backend: " + backend.getName());
+
+        final long interval = Math.max(1, PVPArena.instance.getConfig().getInt("statsFlushInterval", 60)) * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, interval, interval);
+    }
 
-        try {
-            config.load(playersFile);
-        } catch (final Exception e) {
-            Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
-            e.printStackTrace();
+    /**
+     * copy the stats of players.yml into a new backend
+     */
+    private static void importStatistics(final File playersFile, final IStatisticsBackend target) throws Exception {
+        final YamlStatisticsBackend source = new YamlStatisticsBackend(playersFile);
+        source.open();
+        int count = 0;
+        for (final String arenaName : source.getArenaNames()) {
+            final List<PAStatRecord> records = source.load(arenaName);
+            target.write(records);
+            count += records.size();
         }
+        PVPArena.instance.getLogger().info("Imported " + count + " stats entries into the " + target.getName() + " backend");
     }
 
     /**
@@ -254,136 +521,270 @@ public final class StatisticsManager {
                 final PAKillEvent kEvent = new PAKillEvent(arena, attacker);
                 Bukkit.getPluginManager().callEvent(kEvent);
 
-                ArenaPlayer.parsePlayer(attacker.getName()).addKill();
+                ArenaPlayer.fromPlayer(attacker).addKill();
             }
         }
-        ArenaPlayer.parsePlayer(defender.getName()).addDeath();
+        ArenaPlayer.fromPlayer(defender).addDeath();
     }
 
+    /**
+     * request the pending stats to be written soon, without waiting for the flush interval
+     */
     public static void save() {
-        if (config == null) {
+        if (backend == null || flushTask == null || DIRTY.isEmpty() || FLUSH_REQUESTED.getAndSet(true)) {
             return;
         }
-        try {
-            config.save(playersFile);
-        } catch (final IOException e) {
-            e.printStackTrace();
+        Bukkit.getScheduler().runTaskAsynchronously(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        });
+    }
+
+    /**
+     * stop the background writer, write all pending stats and close the backend, blocking until done
+     */
+    public static void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+        synchronized (WRITE_LOCK) {
+            if (backend != null) {
+                backend.close();
+                backend = null;
+            }
+            STORED_TOP.clear();
+            STORED_TOP_FRESH.clear();
         }
     }
 
+    /**
+     * write all pending stats to the backend in one batch
+     */
+    private static void flush() {
+        synchronized (WRITE_LOCK) {
+            FLUSH_REQUESTED.set(false);
+            if (backend == null || DIRTY.isEmpty()) {
+                return;
+            }
+            // the entries stay until they are written, so loading a player in between still finds them
+            final Map<String, PAStatRecord> batch = new HashMap<>(DIRTY);
+            DEBUG.i("writing stats, entries: " + batch.size());
+            try {
+                backend.write(batch.values());
+            } catch (final Exception e) {
+                PVPArena.instance.getLogger().log(Level.SEVERE, "Could not save the stats", e);
+                return;
+            }
+            STORED_TOP_FRESH.clear();
+            for (final Map.Entry<String, PAStatRecord> entry : batch.entrySet()) {
+                // only forget them if there are no newer values
+                DIRTY.remove(entry.getKey(), entry.getValue());
+                PREFETCHED.remove(entry.getValue().getId());
+            }
+        }
+    }
+
+    /**
+     * make sure the statistics backend is ready for an arena. The stats of a player are loaded
+     * when they join the server, see {@link #loadPlayer(ArenaPlayer)}.
+     *
+     * @param arena the arena being loaded
+     */
     public static void loadStatistics(final Arena arena) {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        if (config == null) {
+        if (backend == null) {
             initialize();
         }
-        if (config.getConfigurationSection(arena.getName()) == null) {
-            return;
-        }
-
-        arena.getDebugger().i("loading statistics!");
-        boolean foundBroken = false;
-        for (final String playerID : config.getConfigurationSection(arena.getName()).getKeys(false)) {
-
-
-            String playerName = null;
+        arena.getDebugger().i("statistics backend: " + (backend == null ? "none" : backend.getName()));
+    }
 
-            if (config.getConfigurationSection(arena.getName()).contains(playerID+".name")) {
-                playerName = config.getConfigurationSection(arena.getName()).getString(playerID+".name");
+    /**
+     * read the stats of a player logging in, so that joining does not need to wait for the backend.
+     * To be called off the main thread.
+     *
+     * @param uuid the player UUID
+     * @param name the player name
+     */
+    public static void prefetch(final UUID uuid, final String name) {
+        final long now = System.currentTimeMillis();
+        for (final Map.Entry<String, Prefetched> entry : PREFETCHED.entrySet()) {
+            if (now - entry.getValue().time > PREFETCH_TIMEOUT) {
+                PREFETCHED.remove(entry.getKey(), entry.getValue());
             }
+        }
+        synchronized (WRITE_LOCK) {
+            // no write may happen in between, it would make the stats outdated
+            if (backend == null) {
+                return;
+            }
+            try {
+                PREFETCHED.put(uuid.toString(), new Prefetched(backend.loadPlayer(uuid.toString(), name)));
+            } catch (final Exception e) {
+                PVPArena.instance.getLogger().log(Level.WARNING, "Could not read the stats of " + name, e);
+            }
+        }
+    }
 
-            arena.getDebugger().i("loading stats: " + playerName);
+    /**
+     * load the stats of all arenas of a player. Stats that were not prefetched are read in the background,
+     * the player counts as loaded and their stats are written only once the stored values are in place.
+     *
+     * @param aPlayer the player to load
+     */
+    public static void loadPlayer(final ArenaPlayer aPlayer) {
+        if (backend == null || aPlayer.isStatisticsLoaded()) {
+            return;
+        }
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(PVPArena.instance, new Runnable() {
+                @Override
+                public void run() {
+                    loadPlayer(aPlayer);
+                }
+            });
+            return;
+        }
 
-            final ArenaPlayer aPlayer;
+        final String id = getNode(aPlayer);
+        final Prefetched prefetched = PREFETCHED.remove(id);
+        if (prefetched != null) {
+            LOADING.remove(aPlayer);
+            applyStats(aPlayer, id, prefetched.records);
+            return;
+        }
+        if (!LOADING.add(aPlayer)) {
+            return; // already being read
+        }
 
-            try {
-                if(playerName != null) {
-                    aPlayer = ArenaPlayer.addPlayer(playerName);
-                } else {
-                    continue;
+        final IStatisticsBackend current = backend;
+        Bukkit.getScheduler().runTaskAsynchronously(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                List<PAStatRecord> stored = null;
+                synchronized (WRITE_LOCK) {
+                    // no write may happen in between, it would make the stats outdated
+                    if (backend == current) {
+                        try {
+                            stored = new ArrayList<>(current.loadPlayer(id, aPlayer.getName()));
+                        } catch (final Exception e) {
+                            PVPArena.instance.getLogger().log(Level.WARNING,
+                                    "Could not read the stats of " + aPlayer.getName() + ", not saving them", e);
+                        }
+                    }
                 }
+                final List<PAStatRecord> records = stored;
+                Bukkit.getScheduler().runTask(PVPArena.instance, new Runnable() {
+                    @Override
+                    public void run() {
+                        // not loading anymore if the player was unloaded in between
+                        if (LOADING.remove(aPlayer) && records != null && backend == current
+                                && !aPlayer.isStatisticsLoaded()) {
+                            applyStats(aPlayer, id, records);
+                        }
+                    }
+                });
+            }
+        });
+    }
 
-            } catch (IllegalArgumentException e) {
-                PVPArena.instance.getLogger().warning("invalid player ID: " + playerID);
-                continue;
+    private static void applyStats(final ArenaPlayer aPlayer, final String id, final List<PAStatRecord> stored) {
+        final Map<String, PAStatRecord> records = new HashMap<>();
+        for (final PAStatRecord record : stored) {
+            // prefer the UUID node over a legacy name node
+            if (id.equals(record.getId()) || !records.containsKey(record.getArenaName())) {
+                records.put(record.getArenaName(), record);
             }
+        }
+        // values not written yet are newer than the stored ones
+        for (final PAStatRecord record : DIRTY.values()) {
+            if (id.equals(record.getId())) {
+                records.put(record.getArenaName(), record);
+            }
+        }
 
+        DEBUG.i("loading stats of " + aPlayer.getName() + ": " + records.size() + " arenas");
+        for (final PAStatRecord record : records.values()) {
             for (final Type ttt : Type.values()) {
-                aPlayer.setStatistic(arena.getName(), ttt, 0);
+                aPlayer.setStatistic(record.getArenaName(), ttt, ttt == Type.NULL ? 0 : record.getStat(ttt));
             }
+        }
+        LOADED.add(id);
+        for (final PAStatRecord record : stored) {
+            LOADED.add(record.getId());
+        }
+        aPlayer.setStatisticsLoaded(true);
+    }
 
-            final int losses = config.getInt(arena.getName() + '.' + playerID + ".losses", 0);
-            aPlayer.addStatistic(arena.getName(), Type.LOSSES, losses);
-
-            final int wins = config.getInt(arena.getName() + '.' + playerID + ".wins", 0);
-            aPlayer.addStatistic(arena.getName(), Type.WINS, wins);
-
-            final int kills = config.getInt(arena.getName() + '.' + playerID + ".kills", 0);
-            aPlayer.addStatistic(arena.getName(), Type.KILLS, kills);
-
-            final int deaths = config.getInt(arena.getName() + '.' + playerID + ".deaths", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DEATHS, deaths);
-
-            final int damage = config.getInt(arena.getName() + '.' + playerID + ".damage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGE, damage);
-
-            final int maxdamage = config.getInt(arena.getName() + '.' + playerID + ".maxdamage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGE, maxdamage);
-
-            final int damagetake = config.getInt(arena.getName() + '.' + playerID + ".damagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGETAKE, damagetake);
+    private static String getNode(final ArenaPlayer aPlayer) {
+        return aPlayer.getUniqueId() == null ? aPlayer.getName() : aPlayer.getUniqueId().toString();
+    }
 
-            final int maxdamagetake = config.getInt(arena.getName() + '.' + playerID + ".maxdamagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGETAKE, maxdamagetake);
+    /**
+     * save the running match stats of a player removed from memory, and remove them from the leaderboards
+     *
+     * @param aPlayer the player being removed
+     */
+    public static void unloadPlayer(final ArenaPlayer aPlayer) {
+        LOADING.remove(aPlayer);
+        for (final Map.Entry<String, PAStatMap> entry : aPlayer.getAllStatistics().entrySet()) {
+            if (backend != null && aPlayer.isStatisticsLoaded() && entry.getValue().hasMatchStats()) {
+                update(entry.getKey(), aPlayer, entry.getValue());
+            }
+            final PALeaderboard[] boards = LEADERBOARDS.get(entry.getKey());
+            if (boards != null) {
+                for (final Type type : Type.values()) {
+                    if (type != Type.NULL) {
+                        boards[type.ordinal()].remove(aPlayer);
+                    }
+                }
+            }
         }
-        if (foundBroken) {
-            save();
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                GLOBAL_LEADERBOARDS[type.ordinal()].remove(aPlayer);
+            }
         }
+        LOADED.remove(getNode(aPlayer));
+        LOADED.remove(aPlayer.getName());
+        aPlayer.setStatisticsLoaded(false);
     }
 
+    /**
+     * remember the stats of a player to be written by the background writer
+     *
+     * @param arena   the arena to save
+     * @param aPlayer the player to save
+     */
     public static void update(final Arena arena, final ArenaPlayer aPlayer) {
-        if (config == null) {
+        if (backend == null) {
             return;
         }
+        update(arena.getName(), aPlayer, aPlayer.getStatistics(arena));
+    }
 
-        final PAStatMap map = aPlayer.getStatistics(arena);
-
-        String node = aPlayer.getName();
-
-        try {
-            node = aPlayer.get().getUniqueId().toString();
-        } catch (final Exception ignored) {
-
+    private static void update(final String arenaName, final ArenaPlayer aPlayer, final PAStatMap map) {
+        if (!aPlayer.isStatisticsLoaded()) {
+            // writing now would replace the stored values
+            DEBUG.i("stats of " + aPlayer.getName() + " not loaded, not saving them");
+            return;
         }
+        map.commitMatch();
 
-        final int losses = map.getStat(Type.LOSSES);
-        config.set(arena.getName() + '.' + node + ".losses", losses);
-
-        final int wins = map.getStat(Type.WINS);
-        config.set(arena.getName() + '.' + node + ".wins", wins);
-
-        final int kills = map.getStat(Type.KILLS);
-        config.set(arena.getName() + '.' + node + ".kills", kills);
-
-        final int deaths = map.getStat(Type.DEATHS);
-        config.set(arena.getName() + '.' + node + ".deaths", deaths);
+        final String node = getNode(aPlayer);
 
-        final int damage = map.getStat(Type.DAMAGE);
-        config.set(arena.getName() + '.' + node + ".damage", damage);
-
-        final int maxdamage = map.getStat(Type.MAXDAMAGE);
-        config.set(arena.getName() + '.' + node + ".maxdamage", maxdamage);
-
-        final int damagetake = map.getStat(Type.DAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".damagetake", damagetake);
-
-        final int maxdamagetake = map.getStat(Type.MAXDAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".maxdamagetake", maxdamagetake);
-
-        if (!node.equals(aPlayer.getName())) {
-            config.set(arena.getName() + '.' + node + ".playerName", aPlayer.getName());
+        final long[] values = new long[Type.values().length];
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                values[type.ordinal()] = map.getStat(type);
+            }
         }
 
+        DIRTY.put(arenaName + '.' + node, new PAStatRecord(arenaName, node, aPlayer.getName(), values));
     }
 }
@@ -6,6 +6,7 @@ import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.commands.AbstractArenaCommand;
 import net.slipcor.pvparena.commands.AbstractGlobalCommand;
+import net.slipcor.pvparena.commands.CommandIndex;
 import net.slipcor.pvparena.commands.CommandTree;
 import net.slipcor.pvparena.commands.PAA_Edit;
 import net.slipcor.pvparena.core.StringParser;
@@ -18,15 +19,83 @@ import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.bukkit.util.StringUtil.startsWithIgnoreCase;
 
 public final class TabManager {
+    private static final long CACHE_MILLIS = 30000L;
+    private static final Map<Arena, Completions> ARENA_COMPLETIONS = new ConcurrentHashMap<>();
+    private static volatile Completions globalCompletions;
+
     private TabManager() {}
 
+    /**
+     * What completing commands of an arena needs, built on the first completion. Dropped when
+     * the arena changes, and after a while, as sub commands may depend on anything in the arena.
+     */
+    private static final class Completions {
+        private final CommandIndex<IArenaCommandHandler> goals;
+        private final CommandIndex<IArenaCommandHandler> mods;
+        private final Map<IArenaCommandHandler, CommandTree<String>> trees = new ConcurrentHashMap<>();
+        private final long created = System.currentTimeMillis();
+
+        private Completions(final Collection<? extends IArenaCommandHandler> goals,
+                            final Collection<? extends IArenaCommandHandler> mods) {
+            this.goals = new CommandIndex<>(new ArrayList<>(goals));
+            this.mods = new CommandIndex<>(new ArrayList<>(mods));
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - created > CACHE_MILLIS;
+        }
+
+        private CommandTree<String> getSubs(final IArenaCommandHandler handler, final Arena arena) {
+            CommandTree<String> tree = trees.get(handler);
+            if (tree == null) {
+                tree = handler.getSubs(arena);
+                trees.put(handler, tree);
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * forget the completions of an arena, e.g. after its goals or modules changed
+     *
+     * @param arena the arena
+     */
+    public static void invalidate(final Arena arena) {
+        ARENA_COMPLETIONS.remove(arena);
+    }
+
+    /**
+     * forget all completions, e.g. after goals or modules have been installed or removed
+     */
+    public static void invalidateAll() {
+        ARENA_COMPLETIONS.clear();
+        globalCompletions = null;
+    }
+
+    private static Completions getCompletions(final Arena arena) {
+        if (arena == null) {
+            Completions result = globalCompletions;
+            if (result == null || result.isExpired()) {
+                result = new Completions(PVPArena.instance.getAgm().getAllGoals(), PVPArena.instance.getAmm().getAllMods());
+                globalCompletions = result;
+            }
+            return result;
+        }
+        Completions result = ARENA_COMPLETIONS.get(arena);
+        if (result == null || result.isExpired()) {
+            result = new Completions(arena.getGoals(), arena.getMods());
+            ARENA_COMPLETIONS.put(arena, result);
+        }
+        return result;
+    }
+
     public static List<String> getMatches(final CommandSender sender, final List<AbstractArenaCommand> arenaCommands, final List<AbstractGlobalCommand> globalCommands, String[] args) {
         final Set<String> matches = new LinkedHashSet<>();
         final String firstArg = args[0];
@@ -72,39 +141,27 @@ public final class TabManager {
             } else if(args.length == 1) {
                 // else, if only one arg, suggest arena names and global commands
 
-                matches.addAll(ArenaManager.getArenas().stream()
-                        .filter(a -> startsWithIgnoreCase(a.getName(), firstArg))
-                        .map(Arena::getName)
-                        .collect(Collectors.toList()));
+                ArenaManager.addArenaNames(matches, firstArg);
 
-                addCommandsStartingWithPrefix(matches, sender, arena, globalCommands, firstArg);
+                CommandIndex.of(globalCommands).addMatches(matches, sender, null, firstArg);
                 return new ArrayList<>(matches);
             }
         }
 
-        if (args.length == 1) {
-            addCommandsStartingWithPrefix(matches, sender, arena, arenaCommands, args[0]);
+        final Completions completions = getCompletions(arena);
 
-            if (arena == null) {
-                addCommandsStartingWithPrefix(matches, sender, null, PVPArena.instance.getAgm().getAllGoals(), args[0]);
-                addCommandsStartingWithPrefix(matches, sender, null, PVPArena.instance.getAmm().getAllMods(), args[0]);
-            } else {
-                addCommandsStartingWithPrefix(matches, sender, arena, new ArrayList<>(arena.getGoals()), args[0]);
-                addCommandsStartingWithPrefix(matches, sender, arena, new ArrayList<>(arena.getMods()), args[0]);
-            }
+        if (args.length == 1) {
+            CommandIndex.of(arenaCommands).addMatches(matches, sender, arena, args[0]);
+            completions.goals.addMatches(matches, sender, arena, args[0]);
+            completions.mods.addMatches(matches, sender, arena, args[0]);
             return new ArrayList<>(matches);
         }
 
         final List<CommandTree<String>> commands = new ArrayList<>();
-        addTreesMatchingValueInHandlerList(commands, arenaCommands, arena, args[0]);
-        addTreesMatchingValueInHandlerList(commands, globalCommands, arena, args[0]);
-        if (arena == null) {
-            addTreesMatchingValueInHandlerList(commands, PVPArena.instance.getAgm().getAllGoals(), null, args[0]);
-            addTreesMatchingValueInHandlerList(commands, PVPArena.instance.getAmm().getAllMods(), null, args[0]);
-        } else {
-            addTreesMatchingValueInHandlerList(commands, new ArrayList<>(arena.getGoals()), arena, args[0]);
-            addTreesMatchingValueInHandlerList(commands, new ArrayList<>(arena.getMods()), arena, args[0]);
-        }
+        addTreesMatchingValue(commands, completions, CommandIndex.of(arenaCommands), arena, args[0]);
+        addTreesMatchingValue(commands, completions, CommandIndex.of(globalCommands), arena, args[0]);
+        addTreesMatchingValue(commands, completions, completions.goals, arena, args[0]);
+        addTreesMatchingValue(commands, completions, completions.mods, arena, args[0]);
 
         for (final CommandTree<String> tree : commands) {
             addMatchesFromCommandTree(matches, Arrays.copyOfRange(args, 1, args.length), tree);
@@ -112,33 +169,6 @@ public final class TabManager {
         return new ArrayList<>(matches);
     }
 
-    /**
-     * Find a Set of main sub commands and main shortcuts matching a prefix in a List of ArenaCommandHandler
-     *
-     * @param matches the Set to add to
-     * @param list    the ArenaCommandHandler list to search
-     * @param prefix  the prefix to look for
-     */
-    private static void addCommandsStartingWithPrefix(final Set<String> matches, final CommandSender sender, final Arena arena, final List<? extends IArenaCommandHandler> list, final String prefix) {
-        for (final IArenaCommandHandler ach : list) {
-            if (ach.hasPerms(sender, arena, true)) {
-                if(prefix.startsWith("!") || prefix.startsWith("-")) {
-                    for (final String value : ach.getShort()) {
-                        if (startsWithIgnoreCase(value, prefix)) {
-                            matches.add(value);
-                        }
-                    }
-                } else {
-                    for (final String value : ach.getMain()) {
-                        if (startsWithIgnoreCase(value, prefix)) {
-                            matches.add(value);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Add matching entries of an Enum to a List of String
      *
@@ -193,29 +223,18 @@ public final class TabManager {
     }
 
     /**
-     * Read a list of ArenaCommandHandler, add exact matches to a list of CommandTree
+     * Add the sub command trees of the handlers having a value as command or shortcut to a list
      *
      * @param treeList    the list of CommandTree to add to
-     * @param handlerList the list of ArenaCommandHandler to search
+     * @param completions the cached completions of the arena
+     * @param index       the command index to search
      * @param arena       the arena instance to apply for subvalues (can be null)
      * @param value       the value to search for
      */
-    private static void addTreesMatchingValueInHandlerList(final List<CommandTree<String>> treeList, final List<? extends IArenaCommandHandler> handlerList, final Arena arena, final String value) {
-
-        outer:
-        for (final IArenaCommandHandler aac : handlerList) {
-            for (final String entry : aac.getMain()) {
-                if (entry.equals(value)) {
-                    treeList.add(aac.getSubs(arena));
-                    continue outer;
-                }
-            }
-            for (final String entry : aac.getShort()) {
-                if (entry.equals(value)) {
-                    treeList.add(aac.getSubs(arena));
-                    continue outer;
-                }
-            }
+    private static void addTreesMatchingValue(final List<CommandTree<String>> treeList, final Completions completions,
+                                              final CommandIndex<?> index, final Arena arena, final String value) {
+        for (final IArenaCommandHandler handler : index.getAll(value)) {
+            treeList.add(completions.getSubs(handler, arena));
         }
     }
 
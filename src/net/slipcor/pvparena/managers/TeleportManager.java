@@ -0,0 +1,263 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaPlayer.Status;
+import net.slipcor.pvparena.classes.PALocation;
+import net.slipcor.pvparena.classes.PASpawn;
+import net.slipcor.pvparena.core.Config.CFG;
+import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.runnables.ArenaTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * Teleport Manager class
+ * </pre>
+ * <p/>
+ * Teleports players to their spawns when a match starts. The chunks of the spawns are loaded during the
+ * start countdown and kept loaded until the arena is reset, so that the teleports do not wait for chunks
+ * to be loaded. Pending teleports are grouped by chunk and run in batches per tick within a time budget,
+ * the fixes after the teleport and the scoreboard update are then done once for all teleported players.
+ */
+
+public final class TeleportManager {
+    private static final Debug DEBUG = new Debug(46);
+
+    private static final Map<Arena, Pipeline> PIPELINES = new HashMap<>();
+    private static final Map<Arena, Set<ChunkRef>> HELD = new HashMap<>();
+
+    private TeleportManager() {
+    }
+
+    /**
+     * A chunk of a world
+     */
+    private static final class ChunkRef {
+        private final String world;
+        private final int x;
+        private final int z;
+
+        private ChunkRef(final PALocation location) {
+            this.world = location.getWorldName();
+            this.x = location.getBlockX() >> 4;
+            this.z = location.getBlockZ() >> 4;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof ChunkRef)) {
+                return false;
+            }
+            final ChunkRef other = (ChunkRef) o;
+            return this.x == other.x && this.z == other.z && this.world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.world.hashCode() * 31 + this.x) * 31 + this.z;
+        }
+    }
+
+    /**
+     * A player waiting to be teleported
+     */
+    private static final class Pending {
+        private final ArenaPlayer player;
+        private final String place;
+
+        private Pending(final ArenaPlayer player, final String place) {
+            this.player = player;
+            this.place = place;
+        }
+    }
+
+    /**
+     * The chunks to load and the teleports to run for one arena
+     */
+    private static final class Pipeline extends ArenaTask {
+        private final Arena arena;
+        private final Deque<ChunkRef> toLoad = new ArrayDeque<>();
+        private final Map<ChunkRef, Deque<Pending>> byChunk = new LinkedHashMap<>();
+        private final Deque<Pending> elsewhere = new ArrayDeque<>();
+        private final List<ArenaPlayer> teleported = new ArrayList<>();
+
+        private Pipeline(final Arena arena) {
+            this.arena = arena;
+        }
+
+        private boolean isIdle() {
+            return this.toLoad.isEmpty() && this.byChunk.isEmpty() && this.elsewhere.isEmpty();
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            final long budget = PVPArena.instance.getConfig().getInt("teleportBudget", 2000) * 1000L;
+            final int batch = this.arena.getArenaConfig().getBoolean(CFG.GENERAL_QUICKSPAWN)
+                    ? Math.max(1, PVPArena.instance.getConfig().getInt("teleportBatch", 5)) : 1;
+
+            int done = 0;
+            while (done < batch && (done == 0 || System.nanoTime() - start < budget)) {
+                final Pending pending = this.next();
+                if (pending == null) {
+                    break;
+                }
+                this.teleport(pending);
+                done++;
+            }
+
+            if (this.byChunk.isEmpty() && this.elsewhere.isEmpty() && !this.teleported.isEmpty()) {
+                final List<ArenaPlayer> players = new ArrayList<>(this.teleported);
+                this.teleported.clear();
+                DEBUG.i(() -> "teleported " + players.size() + " players in " + this.arena.getName());
+                this.arena.execPostTeleportationFixes(players);
+                this.arena.updateScoreboards();
+            }
+
+            // load the chunks of the spawns with the time left, at least one per tick
+            int loaded = 0;
+            while (!this.toLoad.isEmpty() && (done + loaded == 0 || System.nanoTime() - start < budget)) {
+                hold(this.arena, this.toLoad.poll());
+                loaded++;
+            }
+
+            if (this.isIdle()) {
+                this.cancel();
+                PIPELINES.remove(this.arena, this);
+            }
+        }
+
+        private Pending next() {
+            final Iterator<Map.Entry<ChunkRef, Deque<Pending>>> iterator = this.byChunk.entrySet().iterator();
+            if (iterator.hasNext()) {
+                final Map.Entry<ChunkRef, Deque<Pending>> entry = iterator.next();
+                hold(this.arena, entry.getKey());
+                final Pending pending = entry.getValue().poll();
+                if (entry.getValue().isEmpty()) {
+                    iterator.remove();
+                }
+                return pending;
+            }
+            return this.elsewhere.poll();
+        }
+
+        private void teleport(final Pending pending) {
+            final ArenaPlayer player = pending.player;
+            if (player.getArena() != this.arena || player.get() == null) {
+                DEBUG.i(() -> "not teleporting " + player.getName() + ", left " + this.arena.getName());
+                return;
+            }
+            player.setStatus(Status.FIGHT);
+            this.arena.tpPlayerToCoordNameInBatch(player, pending.place);
+            this.teleported.add(player);
+        }
+    }
+
+    private static Pipeline getPipeline(final Arena arena) {
+        Pipeline pipeline = PIPELINES.get(arena);
+        if (pipeline == null || pipeline.isCancelled()) {
+            pipeline = new Pipeline(arena);
+            pipeline.runTaskTimer(arena, 1L, 1L);
+            PIPELINES.put(arena, pipeline);
+        }
+        return pipeline;
+    }
+
+    /**
+     * start loading the chunks of the spawns of an arena, e.g. when the start countdown begins
+     *
+     * @param arena the arena
+     */
+    public static void preload(final Arena arena) {
+        final Set<ChunkRef> held = HELD.get(arena);
+        final Set<ChunkRef> chunks = new LinkedHashSet<>();
+        for (final PASpawn spawn : arena.getSpawns()) {
+            final String name = spawn.getName();
+            if (name.contains("lounge") || name.contains("spectator") || name.contains("exit")) {
+                continue;
+            }
+            final ChunkRef chunk = new ChunkRef(spawn.getLocation());
+            if (held == null || !held.contains(chunk)) {
+                chunks.add(chunk);
+            }
+        }
+        if (chunks.isEmpty()) {
+            return;
+        }
+        DEBUG.i(() -> "preloading " + chunks.size() + " spawn chunks of " + arena.getName());
+        getPipeline(arena).toLoad.addAll(chunks);
+    }
+
+    /**
+     * queue a player to be teleported to a spawn as a fighter
+     *
+     * @param arena  the arena
+     * @param player the player to teleport
+     * @param place  the spawn name
+     */
+    public static void teleport(final Arena arena, final ArenaPlayer player, final String place) {
+        final Pipeline pipeline = getPipeline(arena);
+        final PALocation location = SpawnManager.getSpawnByExactName(arena, place);
+        if (location == null) {
+            pipeline.elsewhere.add(new Pending(player, place));
+            return;
+        }
+        final ChunkRef chunk = new ChunkRef(location);
+        Deque<Pending> queue = pipeline.byChunk.get(chunk);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            pipeline.byChunk.put(chunk, queue);
+        }
+        queue.add(new Pending(player, place));
+    }
+
+    /**
+     * drop the pending teleports of an arena and let its spawn chunks unload again
+     *
+     * @param arena the arena
+     */
+    public static void release(final Arena arena) {
+        final Pipeline pipeline = PIPELINES.remove(arena);
+        if (pipeline != null) {
+            pipeline.cancel();
+        }
+        final Set<ChunkRef> held = HELD.remove(arena);
+        if (held == null) {
+            return;
+        }
+        for (final ChunkRef chunk : held) {
+            final World world = Bukkit.getWorld(chunk.world);
+            if (world != null) {
+                world.setChunkForceLoaded(chunk.x, chunk.z, false);
+            }
+        }
+        DEBUG.i(() -> "released " + held.size() + " spawn chunks of " + arena.getName());
+    }
+
+    private static void hold(final Arena arena, final ChunkRef chunk) {
+        Set<ChunkRef> held = HELD.get(arena);
+        if (held != null && held.contains(chunk)) {
+            return;
+        }
+        final World world = Bukkit.getWorld(chunk.world);
+        if (world == null) {
+            return;
+        }
+        final Chunk loaded = world.getChunkAt(chunk.x, chunk.z);
+        if (loaded.isForceLoaded()) {
+            return; // kept loaded by someone else, and not ours to release
+        }
+        loaded.setForceLoaded(true);
+        if (held == null) {
+            held = new HashSet<>();
+            HELD.put(arena, held);
+        }
+        held.add(chunk);
+    }
+}
@@ -0,0 +1,275 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PATimingWheel;
+import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.runnables.ArenaTask;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * <pre>
+ * Tick Manager class
+ * </pre>
+ * <p/>
+ * Runs all periodic arena tasks from one server task, using a timing wheel. Tasks that allow it are
+ * spread over the ticks of a second, and postponed when their arena used up its time budget for a tick.
+ */
+
+public final class TickManager {
+    private static final Debug DEBUG = new Debug(37);
+
+    public static final int PHASES = 20;
+
+    private static final PATimingWheel WHEEL = new PATimingWheel();
+    private static final int[] PHASE_LOAD = new int[PHASES];
+    private static final Map<Arena, TickStats> STATS = new HashMap<>();
+
+    private static BukkitTask driver;
+    private static long budget;
+    private static long statsSince;
+
+    private TickManager() {
+    }
+
+    /**
+     * The tasks and timings of one arena
+     */
+    public static final class TickStats {
+        private final Set<ArenaTask> tasks = new HashSet<>();
+        private long runs;
+        private long nanos;
+        private long maxTickNanos;
+        private long deferred;
+        private long currentTick = -1;
+        private long currentNanos;
+
+        private void record(final long tick, final long time) {
+            if (this.currentTick != tick) {
+                this.currentTick = tick;
+                this.currentNanos = 0;
+            }
+            this.currentNanos += time;
+            this.maxTickNanos = Math.max(this.maxTickNanos, this.currentNanos);
+            this.nanos += time;
+            this.runs++;
+        }
+
+        private long getNanos(final long tick) {
+            return this.currentTick == tick ? this.currentNanos : 0;
+        }
+
+        private void resetTimings() {
+            this.runs = 0;
+            this.nanos = 0;
+            this.maxTickNanos = 0;
+            this.deferred = 0;
+        }
+
+        public Map<String, Integer> getTaskCounts() {
+            final Map<String, Integer> result = new TreeMap<>();
+            for (final ArenaTask task : this.tasks) {
+                final Integer count = result.get(task.getTaskName());
+                result.put(task.getTaskName(), count == null ? 1 : count + 1);
+            }
+            return result;
+        }
+
+        public int getTaskCount() {
+            return this.tasks.size();
+        }
+
+        public long getRuns() {
+            return this.runs;
+        }
+
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        public long getMaxTickNanos() {
+            return this.maxTickNanos;
+        }
+
+        public long getDeferred() {
+            return this.deferred;
+        }
+    }
+
+    /**
+     * start the server task driving the wheel
+     */
+    public static void start() {
+        stop();
+        budget = PVPArena.instance.getConfig().getInt("tickBudget", 2000) * 1000L;
+        statsSince = WHEEL.getTick();
+        driver = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new Runnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }, 1L, 1L);
+        DEBUG.i("tick manager started, budget: " + budget + "ns");
+    }
+
+    /**
+     * stop the server task and drop all waiting tasks
+     */
+    public static void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        for (final ArenaTask task : WHEEL.clear()) {
+            task.cancel();
+        }
+        STATS.clear();
+        Arrays.fill(PHASE_LOAD, 0);
+    }
+
+    /**
+     * schedule a periodic task
+     *
+     * @param task   the task to run
+     * @param arena  the arena the task belongs to, null for global tasks
+     * @param delay  the ticks to wait before the first run
+     * @param period the ticks between two runs, 0 to run only once
+     * @param spread true if the task may be shifted to less busy ticks
+     */
+    public static void schedule(final ArenaTask task, final Arena arena, final long delay, final long period,
+                                final boolean spread) {
+        task.setScheduled(arena, period, spread);
+
+        long due = WHEEL.getTick() + Math.max(1L, delay);
+        if (spread && period > 1) {
+            // pick the least busy tick within the first period
+            final int range = (int) Math.min(period, PHASES);
+            long best = due;
+            for (int offset = 1; offset < range; offset++) {
+                if (PHASE_LOAD[getPhase(due + offset)] < PHASE_LOAD[getPhase(best)]) {
+                    best = due + offset;
+                }
+            }
+            due = best;
+            task.setPhase(getPhase(due));
+            PHASE_LOAD[task.getPhase()]++;
+        }
+        task.setDueTick(due);
+
+        getStats(arena).tasks.add(task);
+        WHEEL.add(task);
+    }
+
+    /**
+     * cancel all tasks of an arena, e.g. when it is removed or reloaded
+     *
+     * @param arena the arena to clear
+     */
+    public static void cancelAll(final Arena arena) {
+        final TickStats stats = STATS.remove(arena);
+        if (stats == null) {
+            return;
+        }
+        for (final ArenaTask task : stats.tasks) {
+            task.cancel();
+            if (task.getPhase() >= 0) {
+                PHASE_LOAD[task.getPhase()]--;
+            }
+        }
+    }
+
+    private static int getPhase(final long tick) {
+        return (int) (tick % PHASES);
+    }
+
+    private static TickStats getStats(final Arena arena) {
+        TickStats stats = STATS.get(arena);
+        if (stats == null) {
+            stats = new TickStats();
+            STATS.put(arena, stats);
+        }
+        return stats;
+    }
+
+    private static void tick() {
+        final List<ArenaTask> due = WHEEL.advance();
+        final long tick = WHEEL.getTick();
+
+        for (final ArenaTask task : due) {
+            if (task.isCancelled()) {
+                finish(task);
+                continue;
+            }
+            final TickStats stats = getStats(task.getOwner());
+            if (task.isSpread() && budget > 0 && stats.getNanos(tick) >= budget) {
+                // the arena is over budget, this check has to wait
+                stats.deferred++;
+                WHEEL.add(task); // runs next tick, keeping its due tick for the following runs
+                continue;
+            }
+
+            final long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (final Exception e) {
+                PVPArena.instance.getLogger().log(Level.SEVERE, "Error while running " + task.getTaskName(), e);
+            }
+            stats.record(tick, System.nanoTime() - start);
+
+            if (task.isCancelled() || task.getPeriod() < 1) {
+                finish(task);
+            } else {
+                task.setDueTick(task.getDueTick() + task.getPeriod());
+                WHEEL.add(task);
+            }
+        }
+    }
+
+    private static void finish(final ArenaTask task) {
+        task.cancel();
+        final TickStats stats = STATS.get(task.getOwner());
+        if (stats != null && stats.tasks.remove(task) && task.getPhase() >= 0) {
+            PHASE_LOAD[task.getPhase()]--;
+        }
+    }
+
+    /**
+     * @return the stats of all arenas having tasks, global tasks are mapped to null
+     */
+    public static Map<Arena, TickStats> getStats() {
+        return Collections.unmodifiableMap(STATS);
+    }
+
+    /**
+     * @return the amount of spreadable tasks, by tick of a second
+     */
+    public static int[] getPhaseLoad() {
+        return PHASE_LOAD.clone();
+    }
+
+    /**
+     * @return the amount of ticks the timings have been recorded for
+     */
+    public static long getRecordedTicks() {
+        return WHEEL.getTick() - statsSince;
+    }
+
+    public static int getWaitingTasks() {
+        return WHEEL.size();
+    }
+
+    public static long getBudget() {
+        return budget;
+    }
+
+    public static void resetTimings() {
+        statsSince = WHEEL.getTick();
+        for (final TickStats stats : STATS.values()) {
+            stats.resetTimings();
+        }
+    }
+}
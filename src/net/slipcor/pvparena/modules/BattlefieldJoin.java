@@ -69,7 +69,7 @@ public class BattlefieldJoin extends ArenaModule {
         if (arena.isLocked()
                 && !PermissionManager.hasAdminPerm(player)
                 && !PermissionManager.hasBuilderPerm(player, arena)) {
-            result.setError(this, Language.parse(arena, MSG.ERROR_DISABLED));
+            result.setError(this, arena, MSG.ERROR_DISABLED);
             return result;
         }
 
@@ -77,8 +77,7 @@ public class BattlefieldJoin extends ArenaModule {
 
         if (aPlayer.getArena() != null) {
             aPlayer.getArena().getDebugger().i(getName(), sender);
-            result.setError(this, Language.parse(arena,
-                    MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena())));
+            result.setError(this, arena, MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena()));
             return result;
         }
 
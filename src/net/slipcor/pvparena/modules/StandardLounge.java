@@ -99,7 +99,7 @@ public class StandardLounge extends ArenaModule {
 
         if (arena.isLocked() && !PermissionManager.hasAdminPerm(player)
                 && !PermissionManager.hasBuilderPerm(player, arena)) {
-            result.setError(this, Language.parse(arena, MSG.ERROR_DISABLED));
+            result.setError(this, arena, MSG.ERROR_DISABLED);
             return result;
         }
 
@@ -107,8 +107,7 @@ public class StandardLounge extends ArenaModule {
 
         if (aPlayer.getArena() != null) {
             aPlayer.getArena().getDebugger().i(getName(), sender);
-            result.setError(this, Language.parse(arena,
-                    MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena())));
+            result.setError(this, arena, MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena()));
             return result;
         }
 
@@ -118,8 +117,7 @@ public class StandardLounge extends ArenaModule {
                             arena.getClass(player.getName()) != null ? player.getName() : arena.getArenaConfig().getString(CFG.READY_AUTOCLASS)
                             : arena.getArenaConfig().getString(CFG.READY_AUTOCLASS);
             if (autoClass != null && !"none".equals(autoClass) && arena.getClass(autoClass) == null) {
-                result.setError(this, Language.parse(arena,
-                        MSG.ERROR_CLASS_NOT_FOUND, "autoClass"));
+                result.setError(this, arena, MSG.ERROR_CLASS_NOT_FOUND, "autoClass");
                 return result;
             }
         }
@@ -53,7 +53,7 @@ public class StandardSpectate extends ArenaModule {
 
         final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(sender.getName());
         if (arenaPlayer.getArena() != null) {
-            res.setError(this, Language.parse(MSG.ERROR_ARENA_ALREADY_PART_OF, arenaPlayer.getArena().getName()));
+            res.setError(this, null, MSG.ERROR_ARENA_ALREADY_PART_OF, arenaPlayer.getArena().getName());
         }
 
         if (res.getPriority() < PRIORITY) {
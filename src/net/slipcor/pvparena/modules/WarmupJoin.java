@@ -7,7 +7,6 @@ import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.classes.PACheck;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
-import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.managers.ArenaManager;
@@ -69,7 +68,7 @@ public class WarmupJoin extends ArenaModule {
 
 
         if (arena.isLocked() && !PermissionManager.hasAdminPerm(player) && !PermissionManager.hasBuilderPerm(player, arena)) {
-            result.setError(this, Language.parse(arena, MSG.ERROR_DISABLED));
+            result.setError(this, arena, MSG.ERROR_DISABLED);
             return result;
         }
 
@@ -81,7 +80,7 @@ public class WarmupJoin extends ArenaModule {
 
         if (aPlayer.getArena() != null) {
             aPlayer.getArena().getDebugger().i(getName(), sender);
-            result.setError(this, Language.parse(arena, MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena())));
+            result.setError(this, arena, MSG.ERROR_ARENA_ALREADY_PART_OF, ArenaManager.getIndirectArenaName(aPlayer.getArena()));
             return result;
         }
         getPlayerSet().add(aPlayer);
@@ -9,7 +9,6 @@ import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,7 +24,7 @@ import java.util.Set;
  * @version v0.10.0.1
  */
 
-public abstract class ArenaRunnable extends BukkitRunnable {
+public abstract class ArenaRunnable extends ArenaTask {
 
     protected static final Map<Integer, String> MESSAGES = new HashMap<>();
     final String sSeconds = Language.parse(MSG.TIME_SECONDS);
@@ -96,7 +95,7 @@ public abstract class ArenaRunnable extends BukkitRunnable {
             }
         }
 
-        runTaskTimer(PVPArena.instance, 20L, 20L);
+        runTaskTimer(arena, 20L, 20L);
     }
 
     protected void spam() {
@@ -0,0 +1,111 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.managers.TickManager;
+
+/**
+ * <pre>Arena Task class</pre>
+ * <p/>
+ * The base of all periodic arena timers. Instead of each timer being its own server task,
+ * all of them are run by the TickManager, grouped by arena.
+ */
+
+public abstract class ArenaTask implements Runnable {
+    private Arena owner;
+    private long period;
+    private long dueTick;
+    private int phase = -1;
+    private boolean spread;
+    private boolean scheduled;
+    private boolean cancelled;
+
+    /**
+     * schedule this task to run periodically
+     *
+     * @param arena  the arena this task belongs to, null for global tasks
+     * @param delay  the ticks to wait before the first run
+     * @param period the ticks between two runs
+     * @return this task
+     */
+    public ArenaTask runTaskTimer(final Arena arena, final long delay, final long period) {
+        TickManager.schedule(this, arena, delay, period, false);
+        return this;
+    }
+
+    /**
+     * schedule this task to run periodically, allowing the TickManager to shift its first run
+     * (less than a period) to a less busy tick, and to postpone runs if the arena is over budget.
+     * Only to be used for checks that do not need to be run at an exact tick.
+     *
+     * @param arena  the arena this task belongs to, null for global tasks
+     * @param delay  the minimum ticks to wait before the first run
+     * @param period the ticks between two runs
+     * @return this task
+     */
+    public ArenaTask runTaskTimerSpread(final Arena arena, final long delay, final long period) {
+        TickManager.schedule(this, arena, delay, period, true);
+        return this;
+    }
+
+    /**
+     * stop this task. It will not be run again.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    public boolean isScheduled() {
+        return this.scheduled && !this.cancelled;
+    }
+
+    public Arena getOwner() {
+        return this.owner;
+    }
+
+    public long getPeriod() {
+        return this.period;
+    }
+
+    public long getDueTick() {
+        return this.dueTick;
+    }
+
+    public boolean isSpread() {
+        return this.spread;
+    }
+
+    public String getTaskName() {
+        final String name = this.getClass().getSimpleName();
+        return name.isEmpty() ? this.getClass().getName() : name;
+    }
+
+    public int getPhase() {
+        return this.phase;
+    }
+
+    public void setDueTick(final long tick) {
+        this.dueTick = tick;
+    }
+
+    public void setPhase(final int phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * initialize the scheduling values, only to be called by the TickManager
+     */
+    public void setScheduled(final Arena arena, final long period, final boolean spread) {
+        if (this.scheduled) {
+            throw new IllegalStateException("Already scheduled: " + this.getTaskName());
+        }
+        this.owner = arena;
+        this.period = period;
+        this.spread = spread;
+        this.scheduled = true;
+        this.cancelled = false;
+    }
+}
@@ -9,7 +9,7 @@ import org.bukkit.*;
 
 import java.util.Map;
 
-public class CircleParticleRunnable implements Runnable {
+public class CircleParticleRunnable extends ArenaTask {
     private Map<Location, String> flagMap;
     private final Arena arena;
     private double radius;
@@ -44,24 +44,22 @@ public class InventoryRefillRunnable implements Runnable {
 
         boolean keepAll = this.arena.getArenaConfig().getBoolean(CFG.ITEMS_KEEPALLONRESPAWN);
 
-        if (this.arena.getArenaConfig().getItems(CFG.ITEMS_KEEPONRESPAWN) != null) {
-            final ItemStack[] items = this.arena.getArenaConfig().getItems(CFG.ITEMS_KEEPONRESPAWN);
+        final List<ItemStack> items = this.arena.getArenaConfig().getItemTemplates(CFG.ITEMS_KEEPONRESPAWN);
 
-            for (final ItemStack item : itemList) {
-                if (item != null) {
-                    if (keepAll) {
-                        additions.add(item);
-                        continue;
-                    }
-                    for (final ItemStack iItem : items) {
-                        if (iItem != null) {
-                            if (item.getType() != iItem.getType()) {
-                                continue;
-                            }
-
-                            additions.add(item);
-                            break;
+        for (final ItemStack item : itemList) {
+            if (item != null) {
+                if (keepAll) {
+                    additions.add(item);
+                    continue;
+                }
+                for (final ItemStack iItem : items) {
+                    if (iItem != null) {
+                        if (item.getType() != iItem.getType()) {
+                            continue;
                         }
+
+                        additions.add(item);
+                        break;
                     }
                 }
             }
@@ -5,6 +5,7 @@ import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.core.Language.MSG;
+import net.slipcor.pvparena.managers.TeleportManager;
 
 /**
  * <pre>Arena Runnable class "Start"</pre>
@@ -27,6 +28,7 @@ public class StartRunnable extends ArenaRunnable {
         super(MSG.ARENA_STARTING_IN.getNode(), seconds, null, arena, false);
         arena.getDebugger().i("StartRunnable constructor");
         arena.startRunner = this;
+        TeleportManager.preload(arena);
         for (final ArenaPlayer player : arena.getFighters()) {
             if (player.getStatus() != Status.READY) {
                 player.setStatus(Status.READY);
@@ -0,0 +1,250 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.api.IStatisticsBackend;
+import net.slipcor.pvparena.classes.PAStatRecord;
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.io.File;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * <pre>SQLite Statistics Backend class</pre>
+ * <p/>
+ * Stores the stats in a local SQLite database file, one row per arena and player, using the driver
+ * shipped with the server. Every stat has an index per arena, so rankings only read the rows they return.
+ * The sums of all arenas are kept per player in a second table, updated with every write. Reads use a
+ * connection of their own, so they do not wait for a write to finish.
+ */
+
+public class SQLiteStatisticsBackend implements IStatisticsBackend {
+    private static final String TABLE = "pa_stats";
+    private static final String TOTAL_TABLE = "pa_stats_total";
+
+    private final File file;
+    private final Object readLock = new Object();
+    private Connection connection;
+    private Connection readConnection;
+    private PreparedStatement loadStatement;
+    private PreparedStatement loadPlayerStatement;
+    private PreparedStatement writeStatement;
+    private PreparedStatement writeTotalStatement;
+    private final Map<Type, PreparedStatement> topStatements = new EnumMap<>(Type.class);
+    private final Map<Type, PreparedStatement> globalTopStatements = new EnumMap<>(Type.class);
+
+    public SQLiteStatisticsBackend(final File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    public synchronized void open() throws Exception {
+        synchronized (this.readLock) {
+            Class.forName("org.sqlite.JDBC");
+            this.connection = DriverManager.getConnection("jdbc:sqlite:" + this.file.getAbsolutePath());
+            this.prepare();
+        }
+    }
+
+    private void prepare() throws SQLException {
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder values = new StringBuilder();
+        final StringBuilder sums = new StringBuilder();
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+
+            final StringBuilder create = new StringBuilder("CREATE TABLE IF NOT EXISTS " + TABLE
+                    + " (arena VARCHAR(64) NOT NULL, player VARCHAR(64) NOT NULL, name VARCHAR(32) NOT NULL");
+            final StringBuilder createTotal = new StringBuilder("CREATE TABLE IF NOT EXISTS " + TOTAL_TABLE
+                    + " (player VARCHAR(64) NOT NULL PRIMARY KEY, name VARCHAR(32) NOT NULL");
+            for (final Type type : getTypes()) {
+                final String column = getColumn(type);
+                create.append(", ").append(column).append(" INTEGER NOT NULL DEFAULT 0");
+                createTotal.append(", ").append(column).append(" INTEGER NOT NULL DEFAULT 0");
+                columns.append(", ").append(column);
+                values.append(", ?");
+                sums.append(", SUM(").append(column).append(')');
+            }
+            create.append(", PRIMARY KEY (arena, player))");
+            statement.execute(create.toString());
+            statement.execute(createTotal.append(')').toString());
+
+            statement.execute("CREATE INDEX IF NOT EXISTS " + TABLE + "_player ON " + TABLE + " (player)");
+            for (final Type type : getTypes()) {
+                final String column = getColumn(type);
+                statement.execute("CREATE INDEX IF NOT EXISTS " + TABLE + '_' + column + " ON " + TABLE
+                        + " (arena, " + column + " DESC)");
+                statement.execute("CREATE INDEX IF NOT EXISTS " + TOTAL_TABLE + '_' + column + " ON " + TOTAL_TABLE
+                        + " (" + column + " DESC)");
+            }
+
+            // databases of older versions have no sums yet
+            try (ResultSet result = statement.executeQuery("SELECT 1 FROM " + TOTAL_TABLE + " LIMIT 1")) {
+                if (!result.next()) {
+                    statement.execute("INSERT INTO " + TOTAL_TABLE + " (player, name" + columns
+                            + ") SELECT player, MAX(name)" + sums + " FROM " + TABLE + " GROUP BY player");
+                }
+            }
+        }
+        this.readConnection = DriverManager.getConnection("jdbc:sqlite:" + this.file.getAbsolutePath());
+
+        this.loadStatement = this.readConnection.prepareStatement("SELECT player, name" + columns
+                + " FROM " + TABLE + " WHERE arena = ?");
+        this.loadPlayerStatement = this.readConnection.prepareStatement("SELECT player, name" + columns
+                + ", arena FROM " + TABLE + " WHERE player IN (?, ?)");
+        this.writeStatement = this.connection.prepareStatement("INSERT OR REPLACE INTO " + TABLE
+                + " (arena, player, name" + columns + ") VALUES (?, ?, ?" + values + ')');
+        this.writeTotalStatement = this.connection.prepareStatement("INSERT OR REPLACE INTO " + TOTAL_TABLE
+                + " (player, name" + columns + ") SELECT player, MAX(name)" + sums + " FROM " + TABLE
+                + " WHERE player = ? GROUP BY player");
+        for (final Type type : getTypes()) {
+            final String column = getColumn(type);
+            this.topStatements.put(type, this.readConnection.prepareStatement("SELECT player, name, " + column
+                    + " FROM " + TABLE + " WHERE arena = ? ORDER BY " + column + " DESC LIMIT ?"));
+            this.globalTopStatements.put(type, this.readConnection.prepareStatement("SELECT player, name, " + column
+                    + " FROM " + TOTAL_TABLE + " ORDER BY " + column + " DESC LIMIT ?"));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        synchronized (this.readLock) {
+            for (final Connection con : new Connection[]{this.readConnection, this.connection}) {
+                if (con == null) {
+                    continue;
+                }
+                try {
+                    con.close();
+                } catch (final SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+            this.connection = null;
+            this.readConnection = null;
+            this.topStatements.clear();
+            this.globalTopStatements.clear();
+        }
+    }
+
+    @Override
+    public synchronized boolean isEmpty() throws SQLException {
+        try (Statement statement = this.connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT 1 FROM " + TABLE + " LIMIT 1")) {
+            return !result.next();
+        }
+    }
+
+    @Override
+    public List<PAStatRecord> load(final String arenaName) throws SQLException {
+        synchronized (this.readLock) {
+            this.loadStatement.setString(1, arenaName);
+            return read(this.loadStatement, arenaName);
+        }
+    }
+
+    @Override
+    public List<PAStatRecord> loadPlayer(final String id, final String name) throws SQLException {
+        synchronized (this.readLock) {
+            this.loadPlayerStatement.setString(1, id);
+            this.loadPlayerStatement.setString(2, name);
+            return read(this.loadPlayerStatement, null);
+        }
+    }
+
+    /**
+     * read the records of a query selecting player, name, the stats and, if no arena is given, the arena
+     */
+    private static List<PAStatRecord> read(final PreparedStatement statement, final String arenaName)
+            throws SQLException {
+        final List<PAStatRecord> records = new ArrayList<>();
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                final long[] values = new long[Type.values().length];
+                int column = 3;
+                for (final Type type : getTypes()) {
+                    values[type.ordinal()] = result.getLong(column++);
+                }
+                records.add(new PAStatRecord(arenaName == null ? result.getString(column) : arenaName,
+                        result.getString(1), result.getString(2), values));
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public synchronized void write(final Collection<PAStatRecord> records) throws SQLException {
+        this.connection.setAutoCommit(false);
+        try {
+            final Set<String> players = new HashSet<>();
+            for (final PAStatRecord record : records) {
+                players.add(record.getId());
+                this.writeStatement.setString(1, record.getArenaName());
+                this.writeStatement.setString(2, record.getId());
+                this.writeStatement.setString(3, record.getName());
+                int column = 4;
+                for (final Type type : getTypes()) {
+                    this.writeStatement.setLong(column++, record.getStat(type));
+                }
+                this.writeStatement.addBatch();
+            }
+            this.writeStatement.executeBatch();
+            for (final String player : players) {
+                this.writeTotalStatement.setString(1, player);
+                this.writeTotalStatement.addBatch();
+            }
+            this.writeTotalStatement.executeBatch();
+            this.connection.commit();
+        } catch (final SQLException e) {
+            this.writeStatement.clearBatch();
+            this.writeTotalStatement.clearBatch();
+            this.connection.rollback();
+            throw e;
+        } finally {
+            this.connection.setAutoCommit(true);
+        }
+    }
+
+    @Override
+    public Map<String, PAStatRecord> getTop(final String arenaName, final Type type, final int limit)
+            throws SQLException {
+        final Map<String, PAStatRecord> top = new LinkedHashMap<>();
+        synchronized (this.readLock) {
+            final PreparedStatement statement;
+            if (arenaName == null) {
+                statement = this.globalTopStatements.get(type);
+                statement.setInt(1, limit);
+            } else {
+                statement = this.topStatements.get(type);
+                statement.setString(1, arenaName);
+                statement.setInt(2, limit);
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    final long[] values = new long[Type.values().length];
+                    values[type.ordinal()] = result.getLong(3);
+                    top.put(result.getString(1), new PAStatRecord(arenaName, result.getString(1),
+                            result.getString(2), values));
+                }
+            }
+        }
+        return top;
+    }
+
+    private static List<Type> getTypes() {
+        final List<Type> types = new ArrayList<>();
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static String getColumn(final Type type) {
+        return type.name().toLowerCase();
+    }
+}
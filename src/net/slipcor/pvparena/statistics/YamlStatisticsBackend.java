@@ -0,0 +1,179 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.api.IStatisticsBackend;
+import net.slipcor.pvparena.classes.PAStatRecord;
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * <pre>YAML Statistics Backend class</pre>
+ * <p/>
+ * Keeps all stats in memory and writes them to players.yml, each arena being a section of player nodes.
+ * The file is written to a temporary file first and then moved over the old one, so a crash never
+ * leaves a half written file.
+ */
+
+public class YamlStatisticsBackend implements IStatisticsBackend {
+    private final File file;
+    private YamlConfiguration config;
+
+    public YamlStatisticsBackend(final File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return "yml";
+    }
+
+    @Override
+    public synchronized void open() throws Exception {
+        if (!this.file.exists()) {
+            this.file.createNewFile();
+        }
+        final YamlConfiguration config = new YamlConfiguration();
+        config.load(this.file);
+        this.config = config;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return this.config.getKeys(false).isEmpty();
+    }
+
+    /**
+     * @return the names of all arenas having stats
+     */
+    public synchronized Set<String> getArenaNames() {
+        return new HashSet<>(this.config.getKeys(false));
+    }
+
+    @Override
+    public synchronized List<PAStatRecord> load(final String arenaName) {
+        final ConfigurationSection section = this.config.getConfigurationSection(arenaName);
+        if (section == null) {
+            return Collections.emptyList();
+        }
+        final List<PAStatRecord> result = new ArrayList<>();
+        for (final String playerID : section.getKeys(false)) {
+            final String playerName = section.getString(playerID + ".name");
+            if (playerName == null) {
+                continue;
+            }
+            result.add(new PAStatRecord(arenaName, playerID, playerName, readValues(section, playerID)));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<PAStatRecord> loadPlayer(final String id, final String name) {
+        final List<PAStatRecord> result = new ArrayList<>();
+        for (final String arenaName : this.config.getKeys(false)) {
+            final ConfigurationSection section = this.config.getConfigurationSection(arenaName);
+            if (section == null) {
+                continue;
+            }
+            for (final String playerID : new String[]{id, name}) {
+                if (section.isConfigurationSection(playerID)) {
+                    final String playerName = section.getString(playerID + ".name", name);
+                    result.add(new PAStatRecord(arenaName, playerID, playerName, readValues(section, playerID)));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void write(final Collection<PAStatRecord> records) throws IOException {
+        final String yaml;
+        synchronized (this) {
+            for (final PAStatRecord record : records) {
+                final String path = record.getArenaName() + '.' + record.getId() + '.';
+                for (final Type type : Type.values()) {
+                    if (type != Type.NULL) {
+                        this.config.set(path + type.name().toLowerCase(), record.getStat(type));
+                    }
+                }
+                this.config.set(path + "name", record.getName());
+            }
+            yaml = this.config.saveToString();
+        }
+
+        final File temp = new File(this.file.getParentFile(), this.file.getName() + ".tmp");
+        Files.write(temp.toPath(), yaml.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, PAStatRecord> getTop(final String arenaName, final Type type, final int limit) {
+        final Map<String, Long> values = new HashMap<>();
+        final Map<String, String> names = new HashMap<>();
+        final Collection<String> arenaNames = arenaName == null ? this.config.getKeys(false)
+                : Collections.singleton(arenaName);
+
+        for (final String name : arenaNames) {
+            final ConfigurationSection section = this.config.getConfigurationSection(name);
+            if (section == null) {
+                continue;
+            }
+            for (final String playerID : section.getKeys(false)) {
+                final String playerName = section.getString(playerID + ".name");
+                if (playerName == null) {
+                    continue;
+                }
+                final Long value = values.get(playerID);
+                values.put(playerID, section.getLong(playerID + '.' + type.name().toLowerCase(), 0)
+                        + (value == null ? 0 : value));
+                names.put(playerID, playerName);
+            }
+        }
+
+        // keep the best entries only, the head of the queue being the worst of them
+        final PriorityQueue<Map.Entry<String, Long>> best = new PriorityQueue<>(limit + 1,
+                Map.Entry.<String, Long>comparingByValue());
+        for (final Map.Entry<String, Long> entry : values.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        final List<Map.Entry<String, Long>> sorted = new ArrayList<>(best);
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        final Map<String, PAStatRecord> result = new LinkedHashMap<>();
+        for (final Map.Entry<String, Long> entry : sorted) {
+            final long[] stats = new long[Type.values().length];
+            stats[type.ordinal()] = entry.getValue();
+            result.put(entry.getKey(), new PAStatRecord(arenaName, entry.getKey(), names.get(entry.getKey()), stats));
+        }
+        return result;
+    }
+
+    private static long[] readValues(final ConfigurationSection section, final String playerID) {
+        final long[] values = new long[Type.values().length];
+        for (final Type type : Type.values()) {
+            if (type != Type.NULL) {
+                values[type.ordinal()] = section.getLong(playerID + '.' + type.name().toLowerCase(), 0);
+            }
+        }
+        return values;
+    }
+}